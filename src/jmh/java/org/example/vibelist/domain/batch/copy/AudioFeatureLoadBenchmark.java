@@ -0,0 +1,216 @@
+package org.example.vibelist.domain.batch.copy;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.postgresql.PGConnection;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * audio_feature 적재 방식별 소요 시간 비교 (같은 합성 데이터, chunk 단위 커밋)
+ * - BATCH_UPDATE: 따옴표 식별자 INSERT + addBatch/executeBatch (JdbcAudioFeatureWriter와 같은 방식)
+ * - COPY_CSV: COPY ... FROM STDIN (FORMAT csv)
+ * - COPY_BINARY: COPY ... FROM STDIN (FORMAT binary), PgCopyLoader.copyBinary
+ * 적재 대상은 audio_feature와 같은 구조의 audio_feature_bench 테이블 (spotify_id 보조 인덱스 포함), 매 실행 전 TRUNCATE
+ *
+ * 로컬 PostgreSQL이 필요함:
+ *   docker run -p 5432:5432 -e POSTGRES_PASSWORD=postgres postgres:16
+ *   ./gradlew jmh -Pjmh.includes=AudioFeatureLoadBenchmark  (다른 DB는 JMH 파라미터 -p jdbcUrl=... -p user=... -p password=...)
+ * 결과(ms)를 rows로 나누어 행/초 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class AudioFeatureLoadBenchmark {
+
+    public enum Method {
+        BATCH_UPDATE, COPY_CSV, COPY_BINARY
+    }
+
+    private static final String TABLE = "audio_feature_bench";
+    private static final String COLUMNS = "danceability, energy, key, loudness, mode, speechiness, acousticness, instrumentalness, " +
+            "liveness, valence, tempo, duration_ms, time_signature, spotify_id, genres";
+    private static final String INSERT_SQL = "INSERT INTO \"" + TABLE + "\" (\"danceability\", \"energy\", \"key\", \"loudness\", " +
+            "\"mode\", \"speechiness\", \"acousticness\", \"instrumentalness\", \"liveness\", \"valence\", \"tempo\", " +
+            "\"duration_ms\", \"time_signature\", \"spotify_id\", \"genres\") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String[] GENRES = {"['pop']", "['k-pop', 'dance pop']", "['rock', 'indie rock']", "['jazz']", "[]"};
+
+    @Param({"BATCH_UPDATE", "COPY_CSV", "COPY_BINARY"})
+    private Method method;
+
+    @Param("100000")
+    private int rows;
+
+    @Param("5000")
+    private int chunkSize;
+
+    @Param("jdbc:postgresql://localhost:5432/postgres")
+    private String jdbcUrl;
+
+    @Param("postgres")
+    private String user;
+
+    @Param("postgres")
+    private String password;
+
+    private Connection connection;
+    private double[][] doubles; // [컬럼][행]: danceability, energy, loudness, speechiness, acousticness, instrumentalness, liveness, valence, tempo, time_signature
+    private int[][] ints;       // [컬럼][행]: key, mode, duration_ms
+    private String[] spotifyIds;
+    private String[] genres;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(jdbcUrl, user, password);
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " (audio_feature_id bigserial PRIMARY KEY, " +
+                    "danceability float8 NOT NULL, energy float8 NOT NULL, key int4 NOT NULL, loudness float8 NOT NULL, " +
+                    "mode int4 NOT NULL, speechiness float8 NOT NULL, acousticness float8 NOT NULL, " +
+                    "instrumentalness float8 NOT NULL, liveness float8 NOT NULL, valence float8 NOT NULL, tempo float8 NOT NULL, " +
+                    "duration_ms int4 NOT NULL, time_signature float8 NOT NULL, spotify_id varchar(255), genres text)");
+            statement.execute("CREATE INDEX " + TABLE + "_spotify_id_idx ON " + TABLE + " (spotify_id)");
+        }
+        connection.commit();
+
+        // 고정 시드 합성 데이터 (실행마다 같은 값)
+        Random random = new Random(42);
+        doubles = new double[10][rows];
+        ints = new int[3][rows];
+        spotifyIds = new String[rows];
+        genres = new String[rows];
+        for (int i = 0; i < rows; i++) {
+            for (int c = 0; c < doubles.length; c++) {
+                doubles[c][i] = random.nextDouble();
+            }
+            ints[0][i] = random.nextInt(12);
+            ints[1][i] = random.nextInt(2);
+            ints[2][i] = 120_000 + random.nextInt(240_000);
+            spotifyIds[i] = Long.toString(random.nextLong() & Long.MAX_VALUE, 36);
+            genres[i] = GENRES[random.nextInt(GENRES.length)];
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE " + TABLE);
+        }
+        connection.commit();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    public long load() throws SQLException, IOException {
+        long loaded = 0;
+        for (int from = 0; from < rows; from += chunkSize) {
+            int to = Math.min(rows, from + chunkSize);
+            loaded += switch (method) {
+                case BATCH_UPDATE -> batchUpdate(from, to);
+                case COPY_CSV -> copyCsv(from, to);
+                case COPY_BINARY -> copyBinary(from, to);
+            };
+            connection.commit();
+        }
+        return loaded;
+    }
+
+    private long batchUpdate(int from, int to) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL)) {
+            for (int i = from; i < to; i++) {
+                ps.setDouble(1, doubles[0][i]);
+                ps.setDouble(2, doubles[1][i]);
+                ps.setInt(3, ints[0][i]);
+                ps.setDouble(4, doubles[2][i]);
+                ps.setInt(5, ints[1][i]);
+                ps.setDouble(6, doubles[3][i]);
+                ps.setDouble(7, doubles[4][i]);
+                ps.setDouble(8, doubles[5][i]);
+                ps.setDouble(9, doubles[6][i]);
+                ps.setDouble(10, doubles[7][i]);
+                ps.setDouble(11, doubles[8][i]);
+                ps.setInt(12, ints[2][i]);
+                ps.setDouble(13, doubles[9][i]);
+                ps.setString(14, spotifyIds[i]);
+                ps.setString(15, genres[i]);
+                ps.addBatch();
+            }
+            return ps.executeBatch().length;
+        }
+    }
+
+    private long copyCsv(int from, int to) throws SQLException, IOException {
+        StringBuilder sb = new StringBuilder((to - from) * 160);
+        for (int i = from; i < to; i++) {
+            sb.append(doubles[0][i]).append(',')
+                    .append(doubles[1][i]).append(',')
+                    .append(ints[0][i]).append(',')
+                    .append(doubles[2][i]).append(',')
+                    .append(ints[1][i]).append(',')
+                    .append(doubles[3][i]).append(',')
+                    .append(doubles[4][i]).append(',')
+                    .append(doubles[5][i]).append(',')
+                    .append(doubles[6][i]).append(',')
+                    .append(doubles[7][i]).append(',')
+                    .append(doubles[8][i]).append(',')
+                    .append(ints[2][i]).append(',')
+                    .append(doubles[9][i]).append(',')
+                    .append('"').append(spotifyIds[i]).append("\",")
+                    .append('"').append(genres[i]).append("\"\n");
+        }
+        return connection.unwrap(PGConnection.class).getCopyAPI()
+                .copyIn("COPY " + TABLE + " (" + COLUMNS + ") FROM STDIN WITH (FORMAT csv)", new StringReader(sb.toString()));
+    }
+
+    private long copyBinary(int from, int to) throws SQLException, IOException {
+        return PgCopyLoader.copyBinary(connection, TABLE, COLUMNS, out -> {
+            for (int i = from; i < to; i++) {
+                out.startRow(15)
+                        .writeDouble(doubles[0][i])
+                        .writeDouble(doubles[1][i])
+                        .writeInt(ints[0][i])
+                        .writeDouble(doubles[2][i])
+                        .writeInt(ints[1][i])
+                        .writeDouble(doubles[3][i])
+                        .writeDouble(doubles[4][i])
+                        .writeDouble(doubles[5][i])
+                        .writeDouble(doubles[6][i])
+                        .writeDouble(doubles[7][i])
+                        .writeDouble(doubles[8][i])
+                        .writeInt(ints[2][i])
+                        .writeDouble(doubles[9][i])
+                        .writeText(spotifyIds[i])
+                        .writeText(genres[i]);
+            }
+        }).rows();
+    }
+}
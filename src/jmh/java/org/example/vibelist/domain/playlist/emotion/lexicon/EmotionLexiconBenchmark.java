@@ -0,0 +1,45 @@
+package org.example.vibelist.domain.playlist.emotion.lexicon;
+
+import org.example.vibelist.domain.playlist.emotion.profile.EmotionAnalysis;
+import org.example.vibelist.domain.playlist.emotion.profile.EmotionProfileManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EmotionLexiconClassifier.classify 지연 시간
+ * - 확신 있는 입력(바로 응답)과 애매한 입력(LLM으로 넘김) 판정 비용을 함께 측정
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EmotionLexiconBenchmark {
+
+    private static final String PROFILE_PATH = "config/emotion/emotion_profiles.json";
+    private static final String[] TEXTS = {
+            "오늘 너무 우울해요", "I'm so excited", "졸려", "feeling relaxed",
+            "슬프지 않아", "happy but also kind of nervous about tomorrow",
+            "비 오는 날 창밖을 보면서 커피 마시는 느낌", "짜증나"
+    };
+
+    private EmotionLexiconClassifier classifier;
+    private int cursor;
+
+    @Setup
+    public void setUp() throws IOException {
+        classifier = new EmotionLexiconClassifier(new EmotionProfileManager(PROFILE_PATH));
+    }
+
+    @Benchmark
+    public Optional<EmotionAnalysis> classify() {
+        return classifier.classify(TEXTS[cursor++ & (TEXTS.length - 1)]);
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.vibelist.domain.playlist.emotion.profile;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.vibelist.domain.playlist.emotion.type.EmotionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EmotionProfileManager.classify 비교
+ * - lattice: 기동 시 컴파일한 격자 + 이진 탐색
+ * - legacyStream: 기존 HashMap entrySet 스트림 + isInRange 순회
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EmotionClassifyBenchmark {
+
+    private static final String PROFILE_PATH = "config/emotion/emotion_profiles.json";
+    private static final int POINTS = 1024;
+
+    private EmotionProfileManager manager;
+    private Map<EmotionType, EmotionProfileEntry> legacyMap;
+    private double[] valences;
+    private double[] energies;
+    private int cursor;
+
+    @Setup
+    public void setUp() throws IOException {
+        manager = new EmotionProfileManager(PROFILE_PATH);
+
+        Map<String, EmotionProfileEntry> raw = new ObjectMapper()
+                .readValue(new File(PROFILE_PATH), new TypeReference<Map<String, EmotionProfileEntry>>() {});
+        legacyMap = new HashMap<>();
+        raw.forEach((key, entry) -> legacyMap.put(EmotionType.valueOf(key), entry));
+
+        Random random = new Random(42);
+        valences = new double[POINTS];
+        energies = new double[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            valences[i] = random.nextDouble();
+            energies[i] = random.nextDouble();
+        }
+    }
+
+    @Benchmark
+    public EmotionType lattice() {
+        int i = cursor++ & (POINTS - 1);
+        return manager.classify(valences[i], energies[i]);
+    }
+
+    @Benchmark
+    public EmotionType legacyStream() {
+        int i = cursor++ & (POINTS - 1);
+        double valence = valences[i];
+        double energy = energies[i];
+        return legacyMap.entrySet().stream()
+                .filter(entry -> isInRange(entry.getValue().getRange(), valence, energy))
+                .map(Map.Entry::getKey)
+                .findFirst()
+                .orElse(EmotionType.NEUTRAL);
+    }
+
+    private static boolean isInRange(EmotionFeatureProfile feature, double val, double eng) {
+        return val >= feature.getValence().getMin() && val <= feature.getValence().getMax()
+                && eng >= feature.getEnergy().getMin() && eng <= feature.getEnergy().getMax();
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.vibelist.domain.playlist.es.builder;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.rest_client.RestClientTransport;
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.RestClient;
+import org.example.vibelist.domain.playlist.emotion.profile.EmotionFeatureProfile;
+import org.example.vibelist.domain.playlist.emotion.profile.EmotionProfileManager;
+import org.example.vibelist.domain.playlist.emotion.type.EmotionType;
+import org.example.vibelist.domain.playlist.es.document.AudioFeatureEsDocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TrackQueryProvider.recommendByProfile와 같은 검색(감정 프로필 범위 + randomKey 샘플링, 20곡)의 지연 시간 비교
+ * - MUST: 범위 조건을 점수 계산 must 절로 구성 (변경 전)
+ * - FILTER: 범위 조건을 filter 절로 구성 (변경 후)
+ * SampleTime 모드 결과의 p0.50 / p0.99 값을 비교
+ *
+ * 로컬 ES 컨테이너가 필요함 (audio_feature_index 색인 후 실행):
+ *   docker run -p 9200:9200 -e discovery.type=single-node -e xpack.security.enabled=false elasticsearch:8.18.0
+ *   ./gradlew jmh -Pjmh.includes=RecommendQueryLatencyBenchmark  (다른 주소는 JMH 파라미터 -p esUrl=...)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RecommendQueryLatencyBenchmark {
+
+    private static final String PROFILE_PATH = "config/emotion/emotion_profiles.json";
+    private static final EmotionType[] EMOTIONS = EmotionType.values();
+
+    @Param({"MUST", "FILTER"})
+    private ESQueryBuilder.ClauseMode mode;
+
+    @Param("http://localhost:9200")
+    private String esUrl;
+
+    private RestClient restClient;
+    private ElasticsearchClient client;
+    private EmotionFeatureProfile[] profiles;
+    private int cursor;
+
+    @Setup
+    public void setUp() throws IOException {
+        restClient = RestClient.builder(HttpHost.create(esUrl)).build();
+        client = new ElasticsearchClient(new RestClientTransport(restClient, new JacksonJsonpMapper()));
+
+        EmotionProfileManager manager = new EmotionProfileManager(PROFILE_PATH);
+        profiles = new EmotionFeatureProfile[EMOTIONS.length];
+        for (EmotionType emotion : EMOTIONS) {
+            profiles[emotion.ordinal()] = manager.getProfile(emotion);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        restClient.close();
+    }
+
+    @Benchmark
+    public SearchResponse<AudioFeatureEsDocument> recommendByProfile() throws IOException {
+        EmotionFeatureProfile profile = profiles[cursor++ % profiles.length];
+        return client.search(
+                RandomSampleRequestBuilder.build(ESQueryBuilder.build(profile, mode), 20, ESQueryBuilder.randomStart()),
+                AudioFeatureEsDocument.class);
+    }
+}
@@ -0,0 +1,151 @@
+package org.example.vibelist.domain.playlist.grid;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.rest_client.RestClientTransport;
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.RestClient;
+import org.example.vibelist.domain.playlist.dto.TrackRsDto;
+import org.example.vibelist.domain.playlist.es.builder.ESQueryBuilder;
+import org.example.vibelist.domain.playlist.es.document.AudioFeatureEsDocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좌표 기반 최근접 60곡 검색 비교 (카탈로그 100k / 1M / 5M)
+ * - scan: FeatureGrid.nearest (인메모리 float 컬럼 brute-force + 칸 단위 가지치기)
+ * - esKnn: dense_vector kNN (HNSW) - 로컬 ES 필요, knn_bench_<size> 인덱스가 없으면 합성 데이터로 생성
+ *   docker run -p 9200:9200 -e discovery.type=single-node -e xpack.security.enabled=false elasticsearch:8.18.0
+ *   ./gradlew jmh -Pjmh.includes=NearestNeighborBenchmark
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NearestNeighborBenchmark {
+
+    private static final int K = 60;
+
+    @State(Scope.Benchmark)
+    public static class Catalog {
+        @Param({"100000", "1000000", "5000000"})
+        int catalogSize;
+    }
+
+    @State(Scope.Benchmark)
+    public static class ScanState {
+        FeatureGrid grid;
+
+        @Setup(Level.Trial)
+        public void setUp(Catalog catalog) {
+            int n = catalog.catalogSize;
+            Random random = new Random(42);
+            float[][] columns = new float[FeatureGrid.FEATURES][n];
+            for (int row = 0; row < n; row++) {
+                columns[FeatureGrid.VALENCE][row] = random.nextFloat();
+                columns[FeatureGrid.ENERGY][row] = random.nextFloat();
+            }
+            // 스캔 비용만 측정하므로 응답 DTO는 하나를 공유
+            TrackRsDto[] tracks = new TrackRsDto[n];
+            Arrays.fill(tracks, TrackRsDto.builder().spotifyId("bench").build());
+            grid = FeatureGrid.build(columns, tracks, 20);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class EsState {
+        @Param("http://localhost:9200")
+        String esUrl;
+
+        RestClient restClient;
+        ElasticsearchClient client;
+        String index;
+
+        @Setup(Level.Trial)
+        public void setUp(Catalog catalog) throws IOException {
+            restClient = RestClient.builder(HttpHost.create(esUrl)).build();
+            client = new ElasticsearchClient(new RestClientTransport(restClient, new JacksonJsonpMapper()));
+            index = "knn_bench_" + catalog.catalogSize;
+            if (!client.indices().exists(e -> e.index(index)).value()) {
+                createIndex(catalog.catalogSize);
+            }
+        }
+
+        private void createIndex(int size) throws IOException {
+            client.indices().create(c -> c
+                    .index(index)
+                    .mappings(m -> m
+                            .properties(ESQueryBuilder.FEATURE_VECTOR_FIELD, p -> p
+                                    .denseVector(d -> d
+                                            .dims(ESQueryBuilder.FEATURE_VECTOR_DIMS)
+                                            .index(true)
+                                            .similarity("l2_norm")))
+                    )
+            );
+            Random random = new Random(42);
+            int batch = 10_000;
+            for (int from = 0; from < size; from += batch) {
+                BulkRequest.Builder bulk = new BulkRequest.Builder();
+                for (int i = from; i < Math.min(size, from + batch); i++) {
+                    Map<String, Object> doc = Map.of(
+                            "spotifyId", "bench-" + i,
+                            ESQueryBuilder.FEATURE_VECTOR_FIELD, ESQueryBuilder.featureVector(random.nextDouble(), random.nextDouble()));
+                    bulk.operations(op -> op.index(idx -> idx.index(index).document(doc)));
+                }
+                client.bulk(bulk.build());
+            }
+            client.indices().refresh(r -> r.index(index));
+            client.indices().forcemerge(f -> f.index(index).maxNumSegments(1L));
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            restClient.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Query {
+        final SplittableRandom random = new SplittableRandom(7);
+
+        double next() {
+            return random.nextDouble();
+        }
+    }
+
+    @Benchmark
+    public List<TrackRsDto> scan(ScanState state, Query query) {
+        return state.grid.nearest(query.next(), query.next(), K);
+    }
+
+    // 실제 추천 검색과 같이 TrackRsDto 변환에 필요한 _source만 받아옴
+    @Benchmark
+    public SearchResponse<AudioFeatureEsDocument> esKnn(EsState state, Query query) throws IOException {
+        List<Float> vector = ESQueryBuilder.queryVector(query.next(), query.next());
+        return state.client.search(s -> s
+                .index(state.index)
+                .knn(knn -> knn
+                        .field(ESQueryBuilder.FEATURE_VECTOR_FIELD)
+                        .queryVector(vector)
+                        .k(K)
+                        .numCandidates(K * 10))
+                .source(src -> src.filter(f -> f.includes(AudioFeatureEsDocument.SOURCE_FIELDS)))
+                .size(K), AudioFeatureEsDocument.class);
+    }
+}
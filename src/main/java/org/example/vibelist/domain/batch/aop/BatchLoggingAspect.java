@@ -1,16 +1,49 @@
 package org.example.vibelist.domain.batch.aop;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.example.vibelist.domain.batch.metrics.BatchMetricsRegistry;
+import org.example.vibelist.domain.batch.metrics.BatchProgress;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
 @Component
 @Aspect
+@RequiredArgsConstructor
 @Slf4j
 public class BatchLoggingAspect {
 
+    private final BatchMetricsRegistry metricsRegistry;
+    private final MeterRegistry meterRegistry;
+
+    // Micrometer gauge를 등록한 작업 이름
+    private final Set<String> registeredJobs = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "batch-metrics-reporter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 배치 실행 중 진행 상황(처리량/실패/ETA) 로그 주기
+    @Value("${batch.metrics.log-interval-ms:30000}")
+    private long logIntervalMs;
+
+    private int runningBatches;
+    private ScheduledFuture<?> reportTask;
+
     // BatchService 인터페이스를 구현한 클래스들의 executeBatch() 메서드만 타겟팅
     @Around("execution(* org.example.vibelist.domain..*.BatchService.executeBatch(..))")
     public Object logBatchExecution(ProceedingJoinPoint joinPoint) throws Throwable {
@@ -18,6 +51,7 @@ public class BatchLoggingAspect {
         long start = System.currentTimeMillis();
 
         log.info("▶️ [배치 시작] {}.executeBatch", className);
+        startReporting();
 
         try {
             Object result = joinPoint.proceed();
@@ -27,6 +61,56 @@ public class BatchLoggingAspect {
         } catch (Throwable e) {
             log.error("❌ [배치 실패] {}.executeBatch - {}", className, e.getMessage());
             throw e;
+        } finally {
+            stopReporting();
+            publish(false);
+        }
+    }
+
+    // 실행 중인 배치가 하나라도 있으면 주기적으로 진행 상황 출력
+    private synchronized void startReporting() {
+        if (runningBatches++ == 0) {
+            reportTask = reporter.scheduleAtFixedRate(() -> publish(true), logIntervalMs, logIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized void stopReporting() {
+        if (--runningBatches == 0 && reportTask != null) {
+            reportTask.cancel(false);
+            reportTask = null;
+        }
+    }
+
+    // ChunkJobRunner 작업 지표 -> 로그 (진행 중인 작업만) + Micrometer gauge (batch.* , tag job)
+    private void publish(boolean logProgress) {
+        try {
+            for (BatchProgress progress : metricsRegistry.snapshots()) {
+                registerGauges(progress.job());
+                if (logProgress && !progress.finished()) {
+                    log.info("📊 [배치 진행] {}: {}%, 처리 {}건, 실패 {}건, {}건/초, 남은 시간 {}",
+                            progress.job(), Math.round(progress.progress() * 1000) / 10.0, progress.processed(), progress.failed(),
+                            (long) progress.itemsPerSecond(), progress.eta() == null ? "계산 중" : progress.eta().toSeconds() + "초");
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 배치 지표 출력 실패: {}", e.getMessage());
         }
     }
+
+    private void registerGauges(String job) {
+        if (!registeredJobs.add(job)) {
+            return;
+        }
+        gauge("batch.items.processed", job, BatchProgress::processed);
+        gauge("batch.items.failed", job, BatchProgress::failed);
+        gauge("batch.items.per.second", job, BatchProgress::itemsPerSecond);
+        gauge("batch.progress", job, BatchProgress::progress);
+        gauge("batch.eta.seconds", job, p -> p.eta() == null ? Double.NaN : p.eta().toSeconds());
+    }
+
+    private void gauge(String name, String job, ToDoubleFunction<BatchProgress> value) {
+        Gauge.builder(name, metricsRegistry, registry -> registry.get(job).map(value::applyAsDouble).orElse(Double.NaN))
+                .tag("job", job)
+                .register(meterRegistry);
+    }
 }
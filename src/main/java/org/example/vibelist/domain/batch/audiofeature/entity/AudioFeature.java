@@ -3,8 +3,14 @@ package org.example.vibelist.domain.batch.audiofeature.entity;
 import jakarta.persistence.*;
 import lombok.Data;
 import org.example.vibelist.domain.playlist.entity.Track;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = @Index(name = "idx_audio_feature_updated_at", columnList = "updated_at"))
+@EntityListeners(AuditingEntityListener.class)
 @Data
 public class AudioFeature {
 
@@ -31,6 +37,11 @@ public class AudioFeature {
     @Column(columnDefinition = "text")
     private String genres;
 
+    // ES 증분 동기화 기준 시각 (JDBC/COPY 적재 행은 DB 기본값 now() = 트랜잭션 시작 시각, 동기화 상한은 열린 트랜잭션 시작 시각까지로 제한)
+    @LastModifiedDate
+    @Column(name = "updated_at", columnDefinition = "timestamp(6) default now()")
+    private LocalDateTime updatedAt;
+
 
     @OneToOne(mappedBy = "audioFeature", orphanRemoval = true)
     private Track track; // (선택적) 양방향 설정
@@ -0,0 +1,58 @@
+package org.example.vibelist.domain.batch.audiofeature.importer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+/**
+ * audio_features.csv 청크 파서 (Commons CSV)
+ * 컬럼 순서: danceability, energy, key, loudness, mode, speechiness, acousticness, instrumentalness,
+ *           liveness, valence, tempo, duration_ms, time_signature, spotify_id, genres
+ * 입력은 청크의 CSV 레코드 목록 (따옴표 안 줄바꿈이 들어 있을 수 있음)
+ * 형식이 잘못된 행은 건너뛰고 로그로 남김
+ */
+@Slf4j
+public final class AudioFeatureCsvParser {
+
+    private static final int COLUMNS = 15;
+
+    private AudioFeatureCsvParser() {}
+
+    public static AudioFeatureRows parse(long chunk, List<String> records) throws IOException {
+        AudioFeatureRows rows = new AudioFeatureRows(chunk, records.size());
+        StringReader reader = new StringReader(String.join("\n", records));
+
+        for (CSVRecord record : CSVFormat.DEFAULT.parse(reader)) {
+            if (record.size() < COLUMNS) {
+                log.warn("⚠️ 컬럼 수 부족 - 건너뜀: chunk={}, record={}, size={}", chunk, record.getRecordNumber(), record.size());
+                continue;
+            }
+            int i = rows.size;
+            try {
+                rows.danceability[i] = Double.parseDouble(record.get(0));
+                rows.energy[i] = Double.parseDouble(record.get(1));
+                rows.key[i] = Integer.parseInt(record.get(2));
+                rows.loudness[i] = Double.parseDouble(record.get(3));
+                rows.mode[i] = Integer.parseInt(record.get(4));
+                rows.speechiness[i] = Double.parseDouble(record.get(5));
+                rows.acousticness[i] = Double.parseDouble(record.get(6));
+                rows.instrumentalness[i] = Double.parseDouble(record.get(7));
+                rows.liveness[i] = Double.parseDouble(record.get(8));
+                rows.valence[i] = Double.parseDouble(record.get(9));
+                rows.tempo[i] = Double.parseDouble(record.get(10));
+                rows.durationMs[i] = Integer.parseInt(record.get(11));
+                rows.timeSignature[i] = Double.parseDouble(record.get(12));
+                rows.spotifyId[i] = record.get(13);
+                rows.genres[i] = record.get(14);
+                rows.size++;
+            } catch (NumberFormatException e) {
+                log.warn("⚠️ 숫자 형식 오류 - 건너뜀: chunk={}, record={}, {}", chunk, record.getRecordNumber(), e.getMessage());
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.vibelist.domain.batch.audiofeature.importer;
+
+/**
+ * 파싱된 청크를 audio_feature 테이블에 저장 (청크 하나 = 트랜잭션 하나)
+ * 여러 writer 스레드에서 동시에 호출됨
+ */
+public interface AudioFeatureRowWriter {
+
+    String COLUMNS = "danceability, energy, key, loudness, mode, speechiness, acousticness, instrumentalness, " +
+            "liveness, valence, tempo, duration_ms, time_signature, spotify_id, genres";
+
+    void write(AudioFeatureRows rows);
+}
@@ -0,0 +1,56 @@
+package org.example.vibelist.domain.batch.audiofeature.importer;
+
+/**
+ * CSV 청크 하나를 파싱한 결과 (컬럼별 primitive 배열, 행마다 Object[] 박싱 없음)
+ * writer는 같은 패키지에서 배열을 직접 읽음
+ */
+public final class AudioFeatureRows {
+
+    // writer 종료 신호 (파이프라인을 구성하는 AudioFeatureBatchService에서 사용)
+    public static final AudioFeatureRows END = new AudioFeatureRows(-1L, 0);
+
+    final long chunk;
+    final double[] danceability;
+    final double[] energy;
+    final int[] key;
+    final double[] loudness;
+    final int[] mode;
+    final double[] speechiness;
+    final double[] acousticness;
+    final double[] instrumentalness;
+    final double[] liveness;
+    final double[] valence;
+    final double[] tempo;
+    final int[] durationMs;
+    final double[] timeSignature;
+    final String[] spotifyId;
+    final String[] genres;
+    int size;
+
+    AudioFeatureRows(long chunk, int capacity) {
+        this.chunk = chunk;
+        this.danceability = new double[capacity];
+        this.energy = new double[capacity];
+        this.key = new int[capacity];
+        this.loudness = new double[capacity];
+        this.mode = new int[capacity];
+        this.speechiness = new double[capacity];
+        this.acousticness = new double[capacity];
+        this.instrumentalness = new double[capacity];
+        this.liveness = new double[capacity];
+        this.valence = new double[capacity];
+        this.tempo = new double[capacity];
+        this.durationMs = new int[capacity];
+        this.timeSignature = new double[capacity];
+        this.spotifyId = new String[capacity];
+        this.genres = new String[capacity];
+    }
+
+    public long chunk() {
+        return chunk;
+    }
+
+    public int size() {
+        return size;
+    }
+}
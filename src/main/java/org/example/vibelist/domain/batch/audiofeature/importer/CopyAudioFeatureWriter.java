@@ -0,0 +1,116 @@
+package org.example.vibelist.domain.batch.audiofeature.importer;
+
+import lombok.RequiredArgsConstructor;
+import org.example.vibelist.domain.batch.copy.PgBinaryCopyWriter;
+import org.example.vibelist.domain.batch.copy.PgCopyLoader;
+import org.example.vibelist.global.response.GlobalException;
+import org.example.vibelist.global.response.ResponseCode;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * PostgreSQL COPY writer - 청크를 COPY ... FROM STDIN으로 한 번에 전송
+ * (INSERT 문 파싱/바인딩 비용 없음, 청크 단위로 커밋)
+ * - BINARY: primitive 값을 그대로 PostgreSQL 바이너리 형식으로 전송 (숫자 문자열 변환/파싱 없음)
+ * - CSV: 텍스트 CSV로 전송
+ */
+@Component
+@RequiredArgsConstructor
+public class CopyAudioFeatureWriter implements AudioFeatureRowWriter {
+
+    public enum Format {
+        BINARY, CSV
+    }
+
+    private static final String TABLE = "audio_feature";
+    private static final String CSV_SQL = "COPY " + TABLE + " (" + COLUMNS + ") FROM STDIN WITH (FORMAT csv)";
+
+    private final DataSource dataSource;
+
+    @Value("${batch.audio-feature.copy-format:BINARY}")
+    private Format format;
+
+    @Override
+    public void write(AudioFeatureRows rows) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            if (format == Format.BINARY) {
+                PgCopyLoader.copyBinary(connection, TABLE, COLUMNS, out -> writeBinary(out, rows));
+            } else {
+                CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+                copyManager.copyIn(CSV_SQL, new StringReader(toCsv(rows)));
+            }
+        } catch (SQLException | IOException e) {
+            throw new GlobalException(ResponseCode.BATCH_FAILED, "COPY 실패: chunk=" + rows.chunk + ", " + e.getMessage());
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    // 컬럼 타입: float8 x 2, int4, float8, int4, float8 x 6, int4, float8, varchar, text
+    private static void writeBinary(PgBinaryCopyWriter out, AudioFeatureRows rows) throws IOException {
+        for (int i = 0; i < rows.size; i++) {
+            out.startRow(15)
+                    .writeDouble(rows.danceability[i])
+                    .writeDouble(rows.energy[i])
+                    .writeInt(rows.key[i])
+                    .writeDouble(rows.loudness[i])
+                    .writeInt(rows.mode[i])
+                    .writeDouble(rows.speechiness[i])
+                    .writeDouble(rows.acousticness[i])
+                    .writeDouble(rows.instrumentalness[i])
+                    .writeDouble(rows.liveness[i])
+                    .writeDouble(rows.valence[i])
+                    .writeDouble(rows.tempo[i])
+                    .writeInt(rows.durationMs[i])
+                    .writeDouble(rows.timeSignature[i])
+                    .writeText(rows.spotifyId[i])
+                    .writeText(rows.genres[i]);
+        }
+    }
+
+    private static String toCsv(AudioFeatureRows rows) {
+        StringBuilder sb = new StringBuilder(rows.size * 160);
+        for (int i = 0; i < rows.size; i++) {
+            sb.append(rows.danceability[i]).append(',')
+                    .append(rows.energy[i]).append(',')
+                    .append(rows.key[i]).append(',')
+                    .append(rows.loudness[i]).append(',')
+                    .append(rows.mode[i]).append(',')
+                    .append(rows.speechiness[i]).append(',')
+                    .append(rows.acousticness[i]).append(',')
+                    .append(rows.instrumentalness[i]).append(',')
+                    .append(rows.liveness[i]).append(',')
+                    .append(rows.valence[i]).append(',')
+                    .append(rows.tempo[i]).append(',')
+                    .append(rows.durationMs[i]).append(',')
+                    .append(rows.timeSignature[i]).append(',');
+            appendQuoted(sb, rows.spotifyId[i]).append(',');
+            appendQuoted(sb, rows.genres[i]).append('\n');
+        }
+        return sb.toString();
+    }
+
+    // CSV 따옴표 처리 (null은 빈 값 -> NULL)
+    private static StringBuilder appendQuoted(StringBuilder sb, String value) {
+        if (value == null) {
+            return sb;
+        }
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') sb.append('"');
+            sb.append(c);
+        }
+        return sb.append('"');
+    }
+}
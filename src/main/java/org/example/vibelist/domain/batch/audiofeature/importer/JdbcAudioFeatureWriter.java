@@ -0,0 +1,53 @@
+package org.example.vibelist.domain.batch.audiofeature.importer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * JDBC batch INSERT writer - primitive 배열을 PreparedStatement에 바로 바인딩
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcAudioFeatureWriter implements AudioFeatureRowWriter {
+
+    private static final String SQL = "INSERT INTO audio_feature (" + COLUMNS + ") " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void write(AudioFeatureRows rows) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setDouble(1, rows.danceability[i]);
+                ps.setDouble(2, rows.energy[i]);
+                ps.setInt(3, rows.key[i]);
+                ps.setDouble(4, rows.loudness[i]);
+                ps.setInt(5, rows.mode[i]);
+                ps.setDouble(6, rows.speechiness[i]);
+                ps.setDouble(7, rows.acousticness[i]);
+                ps.setDouble(8, rows.instrumentalness[i]);
+                ps.setDouble(9, rows.liveness[i]);
+                ps.setDouble(10, rows.valence[i]);
+                ps.setDouble(11, rows.tempo[i]);
+                ps.setInt(12, rows.durationMs[i]);
+                ps.setDouble(13, rows.timeSignature[i]);
+                ps.setString(14, rows.spotifyId[i]);
+                ps.setString(15, rows.genres[i]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size;
+            }
+        }));
+    }
+}
@@ -5,8 +5,10 @@ import org.example.vibelist.domain.playlist.entity.Track;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,6 +16,16 @@ public interface AudioFeatureRepository extends JpaRepository<AudioFeature, Long
 
     Page<AudioFeature> findByTrackIsNull(Pageable pageable);
 
+    // id 커서 기반 조회 (afterId, toId] (count 쿼리 없음, 실패해서 Track이 안 생긴 행을 다시 읽지 않음)
+    List<AudioFeature> findByTrackIsNullAndIdGreaterThanAndIdLessThanEqual(Long afterId, Long toId, Pageable pageable);
+
+    // 청크 배치 id 범위 (행이 없으면 0)
+    @Query("SELECT COALESCE(MIN(a.id), 0) FROM AudioFeature a")
+    long findMinId();
+
+    @Query("SELECT COALESCE(MAX(a.id), 0) FROM AudioFeature a")
+    long findMaxId();
+
     Page<AudioFeature> findAll(Pageable pageable); //개수 제한을 걸어두기 위해 정의
 
     Optional<Track> findByTrackId(Long id);
@@ -1,78 +1,353 @@
 package org.example.vibelist.domain.batch.audiofeature.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.vibelist.domain.batch.audiofeature.importer.AudioFeatureCsvParser;
+import org.example.vibelist.domain.batch.audiofeature.importer.AudioFeatureRowWriter;
+import org.example.vibelist.domain.batch.audiofeature.importer.AudioFeatureRows;
+import org.example.vibelist.domain.batch.audiofeature.importer.CopyAudioFeatureWriter;
+import org.example.vibelist.domain.batch.audiofeature.importer.JdbcAudioFeatureWriter;
+import org.example.vibelist.domain.batch.checkpoint.Checkpoint;
+import org.example.vibelist.domain.batch.checkpoint.CheckpointStore;
+import org.example.vibelist.domain.batch.copy.PgCopyLoader;
 import org.example.vibelist.domain.batch.service.BatchService;
 import org.example.vibelist.global.response.ResponseCode;
 import org.example.vibelist.global.response.GlobalException;
-import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.BufferedReader;
-import java.io.FileReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
+/**
+ * audio_features.csv -> audio_feature 테이블 적재 (파이프라인)
+ * 1. reader(현재 스레드): 파일을 chunk-size 레코드씩 읽음 (따옴표 안 줄바꿈은 한 레코드로 이어 붙임), 체크포인트상 완료된 청크는 건너뜀
+ * 2. parser(parser-threads): Commons CSV로 청크를 컬럼별 primitive 배열로 파싱
+ * 3. bounded queue(queue-capacity): parser와 writer 사이 버퍼
+ * 4. writer(writer-threads): JDBC batch INSERT 또는 PostgreSQL COPY로 청크 저장 + 체크포인트 기록을 한 트랜잭션으로 커밋
+ *    (체크포인트 저장~커밋은 writer 간 직렬화 -> 커밋된 청크만 반영한 체크포인트가 저장되고, 메모리 상태도 커밋 후에만 전진)
+ * 메모리에 올라가는 청크 수는 parser-threads + queue-capacity + writer-threads 로 제한
+ * - 체크포인트를 만든 입력(파일 경로/크기/수정 시각 + chunk-size)의 지문을 따로 저장 -> 입력이 바뀌면 이어서 적재하지 않음
+ */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class AudioFeatureBatchService implements BatchService {
 
-    private final JdbcTemplate jdbcTemplate;
+    private static final String JOB_NAME = "audio_feature_import";
+    // 체크포인트를 만든 입력의 지문 (watermark에 저장)
+    private static final String SOURCE_JOB_NAME = JOB_NAME + "_source";
+    private static final String TABLE = "audio_feature";
+    private static final long POLL_MS = 200;
+
+    public enum WriteMode {
+        JDBC, COPY
+    }
+
+    private final JdbcAudioFeatureWriter jdbcWriter;
+    private final CopyAudioFeatureWriter copyWriter;
+    private final CheckpointStore checkpointStore;
+    private final PgCopyLoader copyLoader;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${batch.audio-feature.csv-path:src/main/resources/audio_features.csv}")
+    private String csvPath;
+
+    @Value("${batch.audio-feature.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${batch.audio-feature.parser-threads:2}")
+    private int parserThreads;
+
+    @Value("${batch.audio-feature.writer-threads:4}")
+    private int writerThreads;
+
+    @Value("${batch.audio-feature.queue-capacity:8}")
+    private int queueCapacity;
+
+    @Value("${batch.audio-feature.write-mode:JDBC}")
+    private WriteMode writeMode;
 
     @Override
     public void executeBatch() {
-        String csvFile = "src/main/resources/audio_features.csv";
-        String line;
-        String delimiter = ",";
-
-        List<Object[]> batchArgs = new ArrayList<>();
-
-        try (BufferedReader br = new BufferedReader(new FileReader(csvFile))) {
-            String headerLine = br.readLine(); // Skip header
-            //배치 크기 정하기
-            int batchSize = 1000;
-            int cnt = 1;
-
-            String sql = "INSERT INTO audio_feature " +
-                    "(danceability, energy, key, loudness, mode, speechiness, acousticness, instrumentalness, liveness, valence, tempo, duration_ms, time_signature, spotify_id, genres) " +
-                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-
-            while ((line = br.readLine()) != null) {
-                String[] fields = line.split(delimiter, -1); // Allow empty fields
-
-                Object[] args = new Object[] {
-                        Double.parseDouble(fields[0]), // danceability
-                        Double.parseDouble(fields[1]), // energy
-                        Integer.parseInt(fields[2]),   // key
-                        Double.parseDouble(fields[3]), // loudness
-                        Integer.parseInt(fields[4]),   // mode
-                        Double.parseDouble(fields[5]), // speechiness
-                        Double.parseDouble(fields[6]), // acousticness
-                        Double.parseDouble(fields[7]), // instrumentalness
-                        Double.parseDouble(fields[8]), // liveness
-                        Double.parseDouble(fields[9]), // valence
-                        Double.parseDouble(fields[10]), // tempo
-                        Integer.parseInt(fields[11]),   // durationMs
-                        Double.parseDouble(fields[12]),   // timeSignature
-                        fields[13],                     // spotifyId
-                        fields[14]                      // genres
-                };
-
-                batchArgs.add(args);
-
-                //배치사이즈만큼 리스트가 차면 배치 작업 진행 후 리스트 초기화
-                if (batchArgs.size() >= batchSize) {
-                    System.out.println(cnt + "번째 배치 작업 진행");
-                    cnt++;
-                    jdbcTemplate.batchUpdate(sql, batchArgs);
-                    batchArgs.clear();
+        if (writeMode != WriteMode.COPY) {
+            // 이전 COPY 적재가 중간에 죽어 내려간 채로 남은 인덱스 복구
+            copyLoader.recreatePendingIndexes(TABLE);
+            importCsv();
+            return;
+        }
+        // COPY 대량 적재: 보조 인덱스는 적재가 끝난 뒤 한 번에 생성 (실패해도 인덱스는 복구, 프로세스가 죽으면 다음 실행에서 복구)
+        List<String> indexes = copyLoader.dropSecondaryIndexes(TABLE);
+        try {
+            importCsv();
+        } finally {
+            copyLoader.createIndexes(TABLE, indexes);
+        }
+    }
+
+    private void importCsv() {
+        AudioFeatureRowWriter writer = writeMode == WriteMode.COPY ? copyWriter : jdbcWriter;
+        Checkpoint resumed = checkpointStore.load(JOB_NAME);
+        checkSource(resumed);
+        log.info("📥 audio_feature 적재 시작: file={}, mode={}, chunk={}, parsers={}, writers={}, 재시작 지점={}",
+                csvPath, writeMode, chunkSize, parserThreads, writerThreads, resumed.watermark());
+
+        Progress progress = new Progress(resumed);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicLong writtenRows = new AtomicLong();
+        BlockingQueue<AudioFeatureRows> queue = new ArrayBlockingQueue<>(queueCapacity);
+        // reader가 앞서 나가 파일 전체를 메모리에 올리지 않도록 처리 중인 청크 수 제한
+        Semaphore inFlight = new Semaphore(parserThreads + queueCapacity + writerThreads);
+        long start = System.currentTimeMillis();
+
+        ExecutorService parsers = Executors.newFixedThreadPool(parserThreads);
+        ExecutorService writers = Executors.newFixedThreadPool(writerThreads);
+        try {
+            for (int i = 0; i < writerThreads; i++) {
+                writers.submit(() -> runWriter(writer, queue, inFlight, progress, writtenRows, failure));
+            }
+
+            readChunks(resumed, parsers, queue, inFlight, failure);
+
+            parsers.shutdown();
+            awaitQuietly(parsers);
+            for (int i = 0; i < writerThreads; i++) {
+                offerUntilFailed(queue, AudioFeatureRows.END, failure);
+            }
+            writers.shutdown();
+            awaitQuietly(writers);
+        } finally {
+            parsers.shutdownNow();
+            writers.shutdownNow();
+        }
+
+        long elapsed = Math.max(1, System.currentTimeMillis() - start);
+        if (failure.get() != null) {
+            log.error("❌ audio_feature 적재 중단: 저장={}행, 재시작 지점={}", writtenRows.get(), progress.current().watermark(), failure.get());
+            throw new GlobalException(ResponseCode.BATCH_FAILED, "audio_feature 적재 실패: " + failure.get().getMessage());
+        }
+        checkpointStore.clear(JOB_NAME);
+        checkpointStore.clear(SOURCE_JOB_NAME);
+        log.info("🏁 audio_feature 적재 완료: {}행, {}ms, {}행/초", writtenRows.get(), elapsed, writtenRows.get() * 1000 / elapsed);
+    }
+
+    /**
+     * 청크 번호는 파일 레코드 위치와 chunk-size로 정해지므로, 체크포인트를 만든 입력과 다르면 재시작 거부
+     * (다른 파일/청크 크기로 이어서 적재하면 행이 빠지거나 중복 저장됨)
+     */
+    private void checkSource(Checkpoint resumed) {
+        long fingerprint = sourceFingerprint();
+        boolean started = resumed.watermark() > 0 || !resumed.completedAhead().isEmpty();
+        if (!started) {
+            checkpointStore.save(SOURCE_JOB_NAME, new Checkpoint(fingerprint, Collections.emptySortedSet()));
+            return;
+        }
+        if (checkpointStore.load(SOURCE_JOB_NAME).watermark() != fingerprint) {
+            throw new GlobalException(ResponseCode.BATCH_FAILED,
+                    "체크포인트를 만든 입력 파일 또는 chunk-size가 바뀌어 이어서 적재할 수 없습니다. " +
+                            "처음부터 다시 적재하려면 " + JOB_NAME + ", " + SOURCE_JOB_NAME + " 체크포인트를 삭제하세요.");
+        }
+    }
+
+    // 파일 절대 경로 + 크기 + 수정 시각 + chunk-size -> 64bit 지문
+    private long sourceFingerprint() {
+        Path file = Path.of(csvPath);
+        try {
+            String identity = file.toAbsolutePath().normalize() + "|" + Files.size(file) + "|" +
+                    Files.getLastModifiedTime(file).toMillis() + "|" + chunkSize;
+            return UUID.nameUUIDFromBytes(identity.getBytes(StandardCharsets.UTF_8)).getMostSignificantBits();
+        } catch (IOException e) {
+            throw new GlobalException(ResponseCode.BATCH_FAILED, "입력 파일 확인 실패: " + csvPath);
+        }
+    }
+
+    // 파일을 청크 단위로 읽어 parser에 넘김 (첫 레코드는 헤더)
+    private void readChunks(Checkpoint resumed, ExecutorService parsers, BlockingQueue<AudioFeatureRows> queue,
+                            Semaphore inFlight, AtomicReference<Throwable> failure) {
+        try (BufferedReader reader = Files.newBufferedReader(Path.of(csvPath), StandardCharsets.UTF_8)) {
+            readRecord(reader); // 헤더 건너뜀
+            long chunk = 0;
+            List<String> records = new ArrayList<>(chunkSize);
+            String record;
+            while ((record = readRecord(reader)) != null && failure.get() == null) {
+                records.add(record);
+                if (records.size() == chunkSize) {
+                    submitChunk(chunk++, records, resumed, parsers, queue, inFlight, failure);
+                    records = new ArrayList<>(chunkSize);
                 }
             }
-            //리스트에 남아있는 데이터 처리
-            if (!batchArgs.isEmpty()) {
-                jdbcTemplate.batchUpdate(sql, batchArgs);
+            if (!records.isEmpty() && failure.get() == null) {
+                submitChunk(chunk, records, resumed, parsers, queue, inFlight, failure);
+            }
+        } catch (IOException e) {
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    /**
+     * CSV 레코드 하나를 읽음, 파일 끝이면 null
+     * - 따옴표가 홀수 개로 끝난 줄은 따옴표 안 줄바꿈이므로 다음 줄을 이어 붙임 (이스케이프된 "" 는 짝수라 영향 없음)
+     * - 청크가 레코드 중간에서 잘리면 양쪽 청크 모두 파싱이 깨지므로 줄이 아니라 레코드 단위로 나눔
+     */
+    private static String readRecord(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        if (line == null || countQuotes(line) % 2 == 0) {
+            return line;
+        }
+        StringBuilder record = new StringBuilder(line);
+        long quotes = countQuotes(line);
+        while (quotes % 2 != 0 && (line = reader.readLine()) != null) {
+            record.append('\n').append(line);
+            quotes += countQuotes(line);
+        }
+        return record.toString();
+    }
+
+    private static long countQuotes(String line) {
+        long count = 0;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '"') count++;
+        }
+        return count;
+    }
+
+    private void submitChunk(long chunk, List<String> records, Checkpoint resumed, ExecutorService parsers,
+                             BlockingQueue<AudioFeatureRows> queue, Semaphore inFlight, AtomicReference<Throwable> failure) {
+        if (resumed.isCompleted(chunk)) {
+            return; // 이전 실행에서 저장 완료된 청크
+        }
+        if (!acquireUntilFailed(inFlight, failure)) {
+            return;
+        }
+        parsers.submit(() -> {
+            try {
+                offerUntilFailed(queue, AudioFeatureCsvParser.parse(chunk, records), failure);
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+                inFlight.release();
+            }
+        });
+    }
+
+    private void runWriter(AudioFeatureRowWriter writer, BlockingQueue<AudioFeatureRows> queue, Semaphore inFlight,
+                           Progress progress, AtomicLong writtenRows, AtomicReference<Throwable> failure) {
+        try {
+            while (failure.get() == null) {
+                AudioFeatureRows rows = queue.poll(POLL_MS, TimeUnit.MILLISECONDS);
+                if (rows == null) continue;
+                if (rows == AudioFeatureRows.END) return;
+                try {
+                    // 청크 저장과 체크포인트가 함께 커밋/롤백 (DbCheckpointStore)
+                    transactionTemplate.executeWithoutResult(status -> {
+                        writer.write(rows);
+                        progress.completeAndSave(rows.chunk(), checkpoint -> checkpointStore.save(JOB_NAME, checkpoint));
+                    });
+                    writtenRows.addAndGet(rows.size());
+                } finally {
+                    inFlight.release();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    // 실패가 발생하면 대기를 멈춤 (writer가 멈춘 뒤 reader/parser가 영원히 막히지 않도록)
+    private static boolean acquireUntilFailed(Semaphore semaphore, AtomicReference<Throwable> failure) {
+        try {
+            while (failure.get() == null) {
+                if (semaphore.tryAcquire(POLL_MS, TimeUnit.MILLISECONDS)) return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private static void offerUntilFailed(BlockingQueue<AudioFeatureRows> queue, AudioFeatureRows rows, AtomicReference<Throwable> failure) {
+        try {
+            while (failure.get() == null) {
+                if (queue.offer(rows, POLL_MS, TimeUnit.MILLISECONDS)) return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitQuietly(ExecutorService executor) {
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.info("⏳ audio_feature 적재 진행 중...");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // writer 스레드들이 공유하는 진행 상황 (커밋된 청크만 반영)
+    private static final class Progress {
+        private final ReentrantLock lock = new ReentrantLock();
+        private Checkpoint checkpoint;
+
+        Progress(Checkpoint checkpoint) {
+            this.checkpoint = checkpoint;
+        }
+
+        /**
+         * 현재 트랜잭션에서 청크 완료를 반영한 체크포인트 저장
+         * - 락은 저장부터 트랜잭션 종료(커밋/롤백)까지 유지 -> 저장되는 체크포인트는 항상 커밋된 청크 + 이번 청크
+         * - 메모리 상태는 커밋 후에만 전진 (롤백된 청크가 다음 체크포인트에 섞이지 않음)
+         * - 청크 저장(write)은 락 밖에서 병렬로 진행되고, 체크포인트 upsert와 커밋만 직렬화됨
+         */
+        void completeAndSave(long chunk, Consumer<Checkpoint> save) {
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                throw new IllegalStateException("체크포인트는 청크 저장 트랜잭션 안에서 기록해야 합니다.");
+            }
+            lock.lock();
+            Checkpoint next = checkpoint.complete(chunk);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    checkpoint = next;
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    lock.unlock();
+                }
+            });
+            save.accept(next);
+        }
+
+        Checkpoint current() {
+            lock.lock();
+            try {
+                return checkpoint;
+            } finally {
+                lock.unlock();
             }
-        } catch (Exception e) {
-            e.printStackTrace();
         }
     }
 }
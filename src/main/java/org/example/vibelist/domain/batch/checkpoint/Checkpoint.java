@@ -0,0 +1,53 @@
+package org.example.vibelist.domain.batch.checkpoint;
+
+import java.util.Collections;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * 배치 진행 상황 (청크 번호 기준)
+ * - watermark 미만 청크는 모두 완료
+ * - 병렬 writer는 순서 없이 끝나므로 watermark 이후에 먼저 끝난 청크는 completedAhead에 보관
+ */
+public record Checkpoint(long watermark, SortedSet<Long> completedAhead) {
+
+    public static Checkpoint empty() {
+        return new Checkpoint(0L, Collections.emptySortedSet());
+    }
+
+    // 저장소에 기록된 값으로 복원 (completedAhead는 쉼표 구분 청크 번호)
+    public static Checkpoint of(long watermark, String completedAheadText) {
+        TreeSet<Long> ahead = new TreeSet<>();
+        if (completedAheadText != null && !completedAheadText.isBlank()) {
+            for (String chunk : completedAheadText.split(",")) {
+                ahead.add(Long.parseLong(chunk.trim()));
+            }
+        }
+        return new Checkpoint(watermark, Collections.unmodifiableSortedSet(ahead));
+    }
+
+    public String completedAheadText() {
+        return completedAhead.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+
+    public boolean isCompleted(long chunk) {
+        return chunk < watermark || completedAhead.contains(chunk);
+    }
+
+    // 청크 완료 반영 -> 앞쪽이 연속으로 채워지면 watermark 전진
+    public Checkpoint complete(long chunk) {
+        if (isCompleted(chunk)) {
+            return this;
+        }
+        TreeSet<Long> ahead = new TreeSet<>(completedAhead);
+        ahead.add(chunk);
+        long next = watermark;
+        while (ahead.remove(next)) {
+            next++;
+        }
+        return new Checkpoint(next, Collections.unmodifiableSortedSet(ahead));
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.vibelist.domain.batch.checkpoint;
+
+/**
+ * 배치 재시작 지점 저장소 (작업 이름별)
+ */
+public interface CheckpointStore {
+
+    // 저장된 진행 상황 (없으면 Checkpoint.empty())
+    Checkpoint load(String jobName);
+
+    void save(String jobName, Checkpoint checkpoint);
+
+    // 작업이 끝까지 완료되면 삭제 -> 다음 실행은 처음부터
+    void clear(String jobName);
+}
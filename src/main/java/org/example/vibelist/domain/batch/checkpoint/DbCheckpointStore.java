@@ -0,0 +1,42 @@
+package org.example.vibelist.domain.batch.checkpoint;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.vibelist.domain.batch.checkpoint.repository.BatchCheckpointRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * batch_checkpoint 테이블 기반 체크포인트 저장소 (기본값, batch.checkpoint.store=db)
+ * - 여러 노드가 같은 DB를 보므로 다른 서버에서 이어서 실행 가능
+ * - 청크 트랜잭션 안에서 save하면 청크 저장과 체크포인트가 함께 커밋/롤백됨
+ */
+@Component
+@ConditionalOnProperty(name = "batch.checkpoint.store", havingValue = "db", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class DbCheckpointStore implements CheckpointStore {
+
+    private final BatchCheckpointRepository repository;
+
+    @Override
+    public Checkpoint load(String jobName) {
+        return repository.findById(jobName)
+                .map(row -> {
+                    Checkpoint checkpoint = Checkpoint.of(row.getWatermark(), row.getCompletedAhead());
+                    log.info("📌 체크포인트 로드: job={}, watermark={}, ahead={}", jobName, checkpoint.watermark(), checkpoint.completedAhead().size());
+                    return checkpoint;
+                })
+                .orElse(Checkpoint.empty());
+    }
+
+    @Override
+    public void save(String jobName, Checkpoint checkpoint) {
+        repository.upsert(jobName, checkpoint.watermark(), checkpoint.completedAheadText());
+    }
+
+    @Override
+    public void clear(String jobName) {
+        repository.deleteById(jobName);
+    }
+}
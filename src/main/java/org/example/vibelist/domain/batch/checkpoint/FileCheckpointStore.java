@@ -0,0 +1,75 @@
+package org.example.vibelist.domain.batch.checkpoint;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.vibelist.global.response.GlobalException;
+import org.example.vibelist.global.response.ResponseCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * 로컬 파일 기반 체크포인트 저장소 (batch.checkpoint.store=file)
+ * - <dir>/<jobName>.checkpoint 파일에 1행: watermark, 2행: watermark 이후 완료 청크 번호(쉼표 구분)
+ * - 임시 파일에 쓴 뒤 rename으로 교체해 중간에 죽어도 이전 체크포인트가 깨지지 않음
+ */
+@Component
+@ConditionalOnProperty(name = "batch.checkpoint.store", havingValue = "file")
+@Slf4j
+public class FileCheckpointStore implements CheckpointStore {
+
+    private final Path dir;
+
+    public FileCheckpointStore(@Value("${batch.checkpoint.dir:batch-checkpoints}") String dir) {
+        this.dir = Path.of(dir);
+    }
+
+    @Override
+    public Checkpoint load(String jobName) {
+        Path file = fileOf(jobName);
+        if (!Files.exists(file)) {
+            return Checkpoint.empty();
+        }
+        try {
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            Checkpoint checkpoint = Checkpoint.of(Long.parseLong(lines.get(0).trim()), lines.size() > 1 ? lines.get(1) : null);
+            log.info("📌 체크포인트 로드: job={}, watermark={}, ahead={}", jobName, checkpoint.watermark(), checkpoint.completedAhead().size());
+            return checkpoint;
+        } catch (IOException | RuntimeException e) {
+            throw new GlobalException(ResponseCode.BATCH_FAILED, "체크포인트 읽기 실패: " + file);
+        }
+    }
+
+    @Override
+    public void save(String jobName, Checkpoint checkpoint) {
+        Path file = fileOf(jobName);
+        String content = checkpoint.watermark() + "\n" + checkpoint.completedAheadText();
+        try {
+            Files.createDirectories(dir);
+            Path tmp = dir.resolve(jobName + ".checkpoint.tmp");
+            Files.writeString(tmp, content, StandardCharsets.UTF_8);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new GlobalException(ResponseCode.BATCH_FAILED, "체크포인트 저장 실패: " + file);
+        }
+    }
+
+    @Override
+    public void clear(String jobName) {
+        try {
+            Files.deleteIfExists(fileOf(jobName));
+        } catch (IOException e) {
+            log.warn("⚠️ 체크포인트 삭제 실패: job={}", jobName, e);
+        }
+    }
+
+    private Path fileOf(String jobName) {
+        return dir.resolve(jobName + ".checkpoint");
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.vibelist.domain.batch.checkpoint.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 체크포인트 (DbCheckpointStore)
+ * - completed_ahead: watermark 이후 먼저 끝난 청크 번호 (쉼표 구분)
+ * - 저장은 repository의 upsert 쿼리로만 함 (여러 writer 스레드가 같은 작업을 동시에 저장)
+ */
+@Entity
+@Table(name = "batch_checkpoint")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BatchCheckpoint {
+
+    @Id
+    @Column(name = "job_name", length = 200)
+    private String jobName;
+
+    @Column(nullable = false)
+    private long watermark;
+
+    @Column(name = "completed_ahead", columnDefinition = "text")
+    private String completedAhead;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
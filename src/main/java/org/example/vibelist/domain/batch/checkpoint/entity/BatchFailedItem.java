@@ -0,0 +1,47 @@
+package org.example.vibelist.domain.batch.checkpoint.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 배치에서 처리에 실패한 항목 (작업 이름 + 항목 id)
+ * - 청크 커밋과 같은 트랜잭션에서 기록, 다음 실행에서 건너뛸지는 작업이 결정
+ */
+@Entity
+@Table(name = "batch_failed_item")
+@IdClass(BatchFailedItem.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BatchFailedItem {
+
+    @Id
+    @Column(name = "job_name", length = 200)
+    private String jobName;
+
+    @Id
+    @Column(name = "item_id")
+    private Long itemId;
+
+    @Column(name = "failed_at")
+    private LocalDateTime failedAt;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String jobName;
+        private Long itemId;
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.vibelist.domain.batch.checkpoint.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대량 적재 전에 내린 보조 인덱스 정의 (PgCopyLoader)
+ * - 인덱스를 삭제하기 전에 기록하고, 적재 후 다시 생성하면 삭제
+ * - 적재 중 프로세스가 죽어 남은 행은 다음 실행 시작 시 재생성
+ */
+@Entity
+@Table(name = "batch_pending_index")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BatchPendingIndex {
+
+    @Id
+    @Column(name = "index_name", length = 200)
+    private String indexName;
+
+    @Column(name = "table_name", length = 200, nullable = false)
+    private String tableName;
+
+    // CREATE INDEX 문 (pg_indexes.indexdef)
+    @Column(nullable = false, columnDefinition = "text")
+    private String definition;
+
+    @Column(name = "dropped_at")
+    private LocalDateTime droppedAt;
+}
@@ -0,0 +1,27 @@
+package org.example.vibelist.domain.batch.checkpoint.repository;
+
+import org.example.vibelist.domain.batch.checkpoint.entity.BatchCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface BatchCheckpointRepository extends JpaRepository<BatchCheckpoint, String> {
+
+    /**
+     * 체크포인트 저장 (없으면 insert, 있으면 update)
+     * - 청크 트랜잭션 안에서 호출되면 청크 저장과 함께 커밋됨
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO batch_checkpoint (job_name, watermark, completed_ahead, updated_at) " +
+            "VALUES (:jobName, :watermark, :completedAhead, now()) " +
+            "ON CONFLICT (job_name) DO UPDATE SET watermark = EXCLUDED.watermark, " +
+            "completed_ahead = EXCLUDED.completed_ahead, updated_at = EXCLUDED.updated_at",
+            nativeQuery = true)
+    void upsert(@Param("jobName") String jobName, @Param("watermark") long watermark,
+                @Param("completedAhead") String completedAhead);
+}
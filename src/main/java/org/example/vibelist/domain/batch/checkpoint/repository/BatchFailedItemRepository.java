@@ -0,0 +1,26 @@
+package org.example.vibelist.domain.batch.checkpoint.repository;
+
+import org.example.vibelist.domain.batch.checkpoint.entity.BatchFailedItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface BatchFailedItemRepository extends JpaRepository<BatchFailedItem, BatchFailedItem.Key> {
+
+    @Query("SELECT f.itemId FROM BatchFailedItem f WHERE f.jobName = :jobName")
+    List<Long> findItemIdsByJobName(@Param("jobName") String jobName);
+
+    // 같은 항목이 다시 실패하면 시각만 갱신
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO batch_failed_item (job_name, item_id, failed_at) VALUES (:jobName, :itemId, now()) " +
+            "ON CONFLICT (job_name, item_id) DO UPDATE SET failed_at = EXCLUDED.failed_at",
+            nativeQuery = true)
+    void upsert(@Param("jobName") String jobName, @Param("itemId") Long itemId);
+}
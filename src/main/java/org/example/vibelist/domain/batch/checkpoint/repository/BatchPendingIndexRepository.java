@@ -0,0 +1,33 @@
+package org.example.vibelist.domain.batch.checkpoint.repository;
+
+import org.example.vibelist.domain.batch.checkpoint.entity.BatchPendingIndex;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface BatchPendingIndexRepository extends JpaRepository<BatchPendingIndex, String> {
+
+    List<BatchPendingIndex> findByTableName(String tableName);
+
+    // 같은 인덱스를 다시 내리면 정의/시각만 갱신
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO batch_pending_index (index_name, table_name, definition, dropped_at) " +
+            "VALUES (:indexName, :tableName, :definition, now()) " +
+            "ON CONFLICT (index_name) DO UPDATE SET table_name = EXCLUDED.table_name, " +
+            "definition = EXCLUDED.definition, dropped_at = EXCLUDED.dropped_at",
+            nativeQuery = true)
+    void upsert(@Param("indexName") String indexName, @Param("tableName") String tableName,
+                @Param("definition") String definition);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM BatchPendingIndex p WHERE p.tableName = :tableName")
+    void deleteByTableName(@Param("tableName") String tableName);
+}
@@ -0,0 +1,41 @@
+package org.example.vibelist.domain.batch.chunk;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 청크 배치 작업 정의 (ChunkJobRunner가 실행)
+ * - id 공간을 stripeSize 폭의 고정 구간(stripe)으로 나눔: stripe s = (s * stripeSize, (s + 1) * stripeSize]
+ *   구간 경계가 데이터 양과 무관하게 고정이라 재시작/노드 수 변경 없이 체크포인트가 그대로 유효
+ * - partitions개 스레드가 stripe를 하나씩 가져가 병렬 처리
+ * - nodeCount > 1이면 stripe % nodeCount == nodeIndex 인 stripe만 처리 (여러 서버로 수평 분할)
+ */
+@Getter
+@Builder
+public class ChunkJob<I, O> {
+
+    private final String name;
+    private final ChunkReader<I> reader;
+    private final ChunkProcessor<I, O> processor;
+    private final ChunkWriter<O> writer;
+
+    // 처리 대상 id 범위 [minId, maxId] (실행 시점 기준)
+    private final long minId;
+    private final long maxId;
+
+    @Builder.Default
+    private final int chunkSize = 500;
+    @Builder.Default
+    private final long stripeSize = 50_000;
+    @Builder.Default
+    private final int partitions = 1;
+    @Builder.Default
+    private final int nodeIndex = 0;
+    @Builder.Default
+    private final int nodeCount = 1;
+
+    // 체크포인트 키 (노드 분할 시 노드별로 분리)
+    public String checkpointKey() {
+        return nodeCount > 1 ? name + "@" + nodeIndex + "of" + nodeCount : name;
+    }
+}
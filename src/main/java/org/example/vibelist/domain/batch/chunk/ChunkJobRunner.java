@@ -0,0 +1,214 @@
+package org.example.vibelist.domain.batch.chunk;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.vibelist.domain.batch.checkpoint.Checkpoint;
+import org.example.vibelist.domain.batch.checkpoint.CheckpointStore;
+import org.example.vibelist.domain.batch.checkpoint.repository.BatchFailedItemRepository;
+import org.example.vibelist.domain.batch.metrics.BatchMetrics;
+import org.example.vibelist.domain.batch.metrics.BatchMetricsRegistry;
+import org.example.vibelist.domain.batch.metrics.BatchProgress;
+import org.example.vibelist.global.response.GlobalException;
+import org.example.vibelist.global.response.ResponseCode;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * 청크 배치 실행기 (reader -> processor -> writer)
+ * 1. 작업의 id 범위를 고정 폭 stripe로 나누고 partitions개 스레드가 stripe를 하나씩 가져감
+ * 2. stripe 안에서는 id keyset으로 chunkSize개씩 읽고(트랜잭션 밖) 변환(트랜잭션 밖) 후
+ *    writer 저장 + 실패 항목 기록 + stripe 진행 위치 저장을 한 트랜잭션으로 커밋
+ * 3. stripe가 끝나면 stripe 진행 위치를 지우고 작업 체크포인트(완료 stripe 번호)에 반영
+ * 4. 중간에 멈추면 다음 실행은 완료되지 않은 stripe의 마지막 커밋 id 다음부터 이어서 처리
+ * - 체크포인트 키: 작업 = checkpointKey(), stripe = checkpointKey()#<stripe 번호>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChunkJobRunner {
+
+    private final TransactionTemplate transactionTemplate;
+    private final CheckpointStore checkpointStore;
+    private final BatchFailedItemRepository failedItemRepository;
+    private final BatchMetricsRegistry metricsRegistry;
+
+    public <I, O> BatchProgress run(ChunkJob<I, O> job) {
+        String key = job.checkpointKey();
+        long first = localStripeOf(job, job.getMinId(), true);
+        long last = localStripeOf(job, job.getMaxId(), false);
+        BatchMetrics metrics = metricsRegistry.start(key, Math.max(0, job.getMaxId() - job.getMinId() + 1) / job.getNodeCount());
+        if (job.getMaxId() < job.getMinId() || last < first) {
+            metrics.finish();
+            log.info("🏁 [{}] 처리할 항목 없음", key);
+            return metrics.snapshot();
+        }
+
+        Progress progress = new Progress(resumeFrom(checkpointStore.load(key), first));
+        Checkpoint resumed = progress.current();
+        log.info("📥 [{}] 청크 배치 시작: id {} ~ {}, stripe {} ~ {} (재시작 지점 {}), chunk={}, partitions={}, node={}/{}",
+                key, job.getMinId(), job.getMaxId(), first, last, resumed.watermark(),
+                job.getChunkSize(), job.getPartitions(), job.getNodeIndex(), job.getNodeCount());
+
+        AtomicLong nextStripe = new AtomicLong(first);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        ExecutorService workers = Executors.newFixedThreadPool(job.getPartitions());
+        try {
+            for (int i = 0; i < job.getPartitions(); i++) {
+                workers.submit(() -> runPartition(job, last, nextStripe, resumed, progress, metrics, failure));
+            }
+            workers.shutdown();
+            awaitQuietly(workers, key);
+        } finally {
+            workers.shutdownNow();
+        }
+
+        BatchProgress result = metrics.snapshot();
+        if (failure.get() != null) {
+            log.error("❌ [{}] 청크 배치 중단: 저장 {}건, 실패 {}건, 재시작 지점 stripe {}",
+                    key, result.processed(), result.failed(), progress.current().watermark(), failure.get());
+            throw new GlobalException(ResponseCode.BATCH_FAILED, key + " 배치 실패: " + failure.get().getMessage());
+        }
+        checkpointStore.clear(key);
+        metrics.finish();
+        result = metrics.snapshot();
+        log.info("🏁 [{}] 청크 배치 완료: 저장 {}건, 실패 {}건, {}청크, {}ms, {}건/초",
+                key, result.processed(), result.failed(), result.chunks(), result.elapsedMs(), (long) result.itemsPerSecond());
+        return result;
+    }
+
+    private <I, O> void runPartition(ChunkJob<I, O> job, long last, AtomicLong nextStripe, Checkpoint resumed,
+                                     Progress progress, BatchMetrics metrics, AtomicReference<Throwable> failure) {
+        try {
+            while (failure.get() == null) {
+                long stripe = nextStripe.getAndIncrement();
+                if (stripe > last) {
+                    return;
+                }
+                if (resumed.isCompleted(stripe)) {
+                    metrics.skipped(upperOf(job, stripe) - lowerOf(job, stripe)); // 이전 실행에서 완료
+                    continue;
+                }
+                if (runStripe(job, stripe, metrics, failure)) {
+                    progress.completeAndSave(stripe, checkpoint -> checkpointStore.save(job.checkpointKey(), checkpoint));
+                }
+            }
+        } catch (Throwable e) {
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    // stripe 하나 처리 (끝까지 처리했으면 true)
+    private <I, O> boolean runStripe(ChunkJob<I, O> job, long stripe, BatchMetrics metrics, AtomicReference<Throwable> failure) {
+        long lower = lowerOf(job, stripe);
+        long upper = upperOf(job, stripe);
+        String stripeKey = job.checkpointKey() + "#" + stripe;
+        long afterId = Math.max(lower, checkpointStore.load(stripeKey).watermark());
+        metrics.skipped(afterId - lower);
+
+        while (failure.get() == null) {
+            List<I> items = job.getReader().read(afterId, upper, job.getChunkSize());
+            if (items.isEmpty()) {
+                break;
+            }
+            ChunkOutput<O> output = job.getProcessor().process(items);
+            long lastId = job.getReader().idOf(items.get(items.size() - 1));
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!output.items().isEmpty()) {
+                    job.getWriter().write(output.items());
+                }
+                for (Long failedId : output.failedIds()) {
+                    failedItemRepository.upsert(job.getName(), failedId);
+                }
+                checkpointStore.save(stripeKey, new Checkpoint(lastId, Collections.emptySortedSet()));
+            });
+            metrics.chunkCommitted(output.items().size(), output.failedIds().size(), lastId - afterId);
+            afterId = lastId;
+            if (items.size() < job.getChunkSize()) {
+                break;
+            }
+        }
+        if (failure.get() != null) {
+            return false;
+        }
+        metrics.advanced(upper - afterId);
+        // 진행 위치를 먼저 지움 (작업 체크포인트 저장 전에 죽으면 이 stripe를 처음부터 다시 처리)
+        checkpointStore.clear(stripeKey);
+        return true;
+    }
+
+    // 이 노드가 맡는 stripe 번호 k -> 전체 stripe 번호 k * nodeCount + nodeIndex
+    private static long globalStripe(ChunkJob<?, ?> job, long stripe) {
+        return stripe * job.getNodeCount() + job.getNodeIndex();
+    }
+
+    // stripe의 id 구간 (lower, upper] - 작업 id 범위로 자름
+    private static long lowerOf(ChunkJob<?, ?> job, long stripe) {
+        return Math.max(globalStripe(job, stripe) * job.getStripeSize(), job.getMinId() - 1);
+    }
+
+    private static long upperOf(ChunkJob<?, ?> job, long stripe) {
+        return Math.min((globalStripe(job, stripe) + 1) * job.getStripeSize(), job.getMaxId());
+    }
+
+    // id가 속한 전체 stripe에 대응하는 이 노드의 stripe 번호 (처음: 이후 첫 stripe, 마지막: 이전 마지막 stripe)
+    private static long localStripeOf(ChunkJob<?, ?> job, long id, boolean first) {
+        long global = Math.floorDiv(id - 1, job.getStripeSize()) - job.getNodeIndex();
+        return first
+                ? Math.max(0, -Math.floorDiv(-global, job.getNodeCount()))
+                : Math.floorDiv(global, job.getNodeCount());
+    }
+
+    // 첫 stripe 이전은 처리할 id가 없으므로 완료로 취급
+    private static Checkpoint resumeFrom(Checkpoint checkpoint, long first) {
+        if (checkpoint.watermark() >= first) {
+            return checkpoint;
+        }
+        Checkpoint resumed = new Checkpoint(first, Collections.emptySortedSet());
+        for (long stripe : checkpoint.completedAhead().tailSet(first)) {
+            resumed = resumed.complete(stripe);
+        }
+        return resumed;
+    }
+
+    private static void awaitQuietly(ExecutorService executor, String key) {
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.info("⏳ [{}] 청크 배치 진행 중...", key);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // partition 스레드들이 공유하는 진행 상황 (완료 stripe 반영과 저장은 직렬화)
+    private static final class Progress {
+        private Checkpoint checkpoint;
+
+        Progress(Checkpoint checkpoint) {
+            this.checkpoint = checkpoint;
+        }
+
+        /**
+         * 완료 stripe를 반영한 체크포인트를 저장한 뒤에만 메모리 상태를 전진
+         * - 계산과 저장을 같은 락 안에서 하므로 나중에 계산된 체크포인트가 먼저 저장되어 덮어써지지 않음
+         */
+        synchronized void completeAndSave(long stripe, Consumer<Checkpoint> save) {
+            Checkpoint next = checkpoint.complete(stripe);
+            save.accept(next);
+            checkpoint = next;
+        }
+
+        synchronized Checkpoint current() {
+            return checkpoint;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.vibelist.domain.batch.chunk;
+
+import java.util.List;
+
+/**
+ * 청크 처리 결과
+ * @param items     저장할 결과
+ * @param failedIds 처리에 실패한 항목 id (batch_failed_item에 기록)
+ */
+public record ChunkOutput<O>(List<O> items, List<Long> failedIds) {
+
+    public static <O> ChunkOutput<O> of(List<O> items) {
+        return new ChunkOutput<>(items, List.of());
+    }
+}
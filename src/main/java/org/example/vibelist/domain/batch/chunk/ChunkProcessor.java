@@ -0,0 +1,12 @@
+package org.example.vibelist.domain.batch.chunk;
+
+import java.util.List;
+
+/**
+ * 읽은 청크 변환 (외부 API 호출 등 오래 걸리는 작업은 여기서, 트랜잭션 밖)
+ */
+@FunctionalInterface
+public interface ChunkProcessor<I, O> {
+
+    ChunkOutput<O> process(List<I> items);
+}
@@ -0,0 +1,15 @@
+package org.example.vibelist.domain.batch.chunk;
+
+import java.util.List;
+
+/**
+ * 청크 단위 읽기 (id keyset)
+ * - (afterId, toId] 범위에서 id 오름차순으로 최대 limit개
+ * - 트랜잭션 밖에서 호출됨
+ */
+public interface ChunkReader<I> {
+
+    List<I> read(long afterId, long toId, int limit);
+
+    long idOf(I item);
+}
@@ -0,0 +1,12 @@
+package org.example.vibelist.domain.batch.chunk;
+
+import java.util.List;
+
+/**
+ * 처리 결과 저장 - 청크 트랜잭션 안에서 호출되어 체크포인트와 함께 커밋됨
+ */
+@FunctionalInterface
+public interface ChunkWriter<O> {
+
+    void write(List<O> items);
+}
@@ -0,0 +1,11 @@
+package org.example.vibelist.domain.batch.copy;
+
+/**
+ * COPY 적재 결과 (행 수, 소요 시간)
+ */
+public record CopyLoadResult(String table, long rows, long elapsedMs) {
+
+    public long rowsPerSecond() {
+        return rows * 1000 / Math.max(1, elapsedMs);
+    }
+}
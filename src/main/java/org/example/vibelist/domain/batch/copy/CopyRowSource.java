@@ -0,0 +1,12 @@
+package org.example.vibelist.domain.batch.copy;
+
+import java.io.IOException;
+
+/**
+ * COPY로 보낼 행을 writer에 기록
+ */
+@FunctionalInterface
+public interface CopyRowSource {
+
+    void write(PgBinaryCopyWriter out) throws IOException;
+}
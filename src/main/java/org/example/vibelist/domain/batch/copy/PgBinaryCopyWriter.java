@@ -0,0 +1,79 @@
+package org.example.vibelist.domain.batch.copy;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * PostgreSQL COPY BINARY 형식 인코더
+ * - 헤더(PGCOPY 시그니처 + flags + 확장 길이) -> 행마다 [필드 수][필드 길이 + 값...] -> 트레일러(-1)
+ * - 값은 big-endian, null은 길이 -1
+ * - 대상 컬럼 타입과 정확히 맞춰 써야 함 (float8 = double, int4 = int, int8 = long, bool, text/varchar)
+ */
+public final class PgBinaryCopyWriter {
+
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+
+    private final DataOutputStream out;
+    private long rows;
+
+    PgBinaryCopyWriter(OutputStream target) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(target, 1 << 16));
+        out.write(SIGNATURE);
+        out.writeInt(0); // flags
+        out.writeInt(0); // 헤더 확장 길이
+    }
+
+    public PgBinaryCopyWriter startRow(int fields) throws IOException {
+        out.writeShort(fields);
+        rows++;
+        return this;
+    }
+
+    public PgBinaryCopyWriter writeDouble(double value) throws IOException {
+        out.writeInt(8);
+        out.writeDouble(value);
+        return this;
+    }
+
+    public PgBinaryCopyWriter writeInt(int value) throws IOException {
+        out.writeInt(4);
+        out.writeInt(value);
+        return this;
+    }
+
+    public PgBinaryCopyWriter writeLong(long value) throws IOException {
+        out.writeInt(8);
+        out.writeLong(value);
+        return this;
+    }
+
+    public PgBinaryCopyWriter writeBoolean(boolean value) throws IOException {
+        out.writeInt(1);
+        out.writeByte(value ? 1 : 0);
+        return this;
+    }
+
+    public PgBinaryCopyWriter writeText(String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return this;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+        return this;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    // 트레일러 기록 후 버퍼 비움 (스트림 종료는 호출 측에서)
+    void finish() throws IOException {
+        out.writeShort(-1);
+        out.flush();
+    }
+}
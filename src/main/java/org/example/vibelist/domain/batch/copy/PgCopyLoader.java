@@ -0,0 +1,126 @@
+package org.example.vibelist.domain.batch.copy;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.vibelist.domain.batch.checkpoint.entity.BatchPendingIndex;
+import org.example.vibelist.domain.batch.checkpoint.repository.BatchPendingIndexRepository;
+import org.example.vibelist.global.response.GlobalException;
+import org.example.vibelist.global.response.ResponseCode;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * PgJDBC CopyManager 기반 대량 적재
+ * - COPY <table> (<columns>) FROM STDIN (FORMAT binary) 로 행을 스트리밍 (INSERT 문 생성/파싱 없음)
+ * - 대량 적재 전 보조 인덱스를 내리고 적재 후 다시 생성 (PK/UNIQUE 등 제약 조건 인덱스는 유지)
+ *   내리기 전에 정의를 batch_pending_index에 기록 -> 적재 중 죽어도 다음 실행에서 재생성
+ * - 현재 스프링 트랜잭션이 있으면 같은 커넥션에서 실행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PgCopyLoader {
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final BatchPendingIndexRepository pendingIndexRepository;
+
+    public CopyLoadResult copyBinary(String table, String columns, CopyRowSource source) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            return copyBinary(connection, table, columns, source);
+        } catch (SQLException | IOException e) {
+            throw new GlobalException(ResponseCode.BATCH_FAILED, table + " COPY 실패: " + e.getMessage());
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    // 커넥션을 직접 넘기는 버전 (벤치마크 등 스프링 컨텍스트 밖에서 사용)
+    public static CopyLoadResult copyBinary(Connection connection, String table, String columns, CopyRowSource source)
+            throws SQLException, IOException {
+        long start = System.currentTimeMillis();
+        String sql = "COPY " + table + " (" + columns + ") FROM STDIN (FORMAT binary)";
+        PGCopyOutputStream stream = new PGCopyOutputStream(connection.unwrap(PGConnection.class), sql);
+        long rows;
+        try {
+            PgBinaryCopyWriter writer = new PgBinaryCopyWriter(stream);
+            source.write(writer);
+            writer.finish();
+            rows = writer.rows();
+        } catch (IOException | RuntimeException e) {
+            stream.cancelCopy();
+            throw e;
+        }
+        stream.close(); // COPY 종료
+        return new CopyLoadResult(table, rows, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 제약 조건에 속하지 않는 보조 인덱스 삭제 -> 적재 후 만들 인덱스의 정의(CREATE INDEX 문) 반환
+     * - 삭제 전에 정의를 기록하고, 이전 실행에서 재생성하지 못한 인덱스도 함께 반환
+     */
+    public List<String> dropSecondaryIndexes(String table) {
+        List<String[]> indexes = jdbcTemplate.query(
+                "SELECT i.indexname, i.indexdef FROM pg_indexes i " +
+                        "WHERE i.schemaname = current_schema() AND i.tablename = ? " +
+                        "AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conname = i.indexname)",
+                (rs, rowNum) -> new String[]{rs.getString(1), rs.getString(2)}, table);
+        for (String[] index : indexes) {
+            pendingIndexRepository.upsert(index[0], table, index[1]);
+        }
+        List<String> names = indexes.stream().map(index -> index[0]).toList();
+        for (String name : names) {
+            jdbcTemplate.execute("DROP INDEX IF EXISTS \"" + name + "\"");
+        }
+        List<String> definitions = pendingIndexRepository.findByTableName(table).stream()
+                .map(BatchPendingIndex::getDefinition)
+                .toList();
+        log.info("🗂️ 적재 전 보조 인덱스 삭제: table={}, indexes={}, 재생성 대상={}", table, names, definitions.size());
+        return definitions;
+    }
+
+    // 적재 후 인덱스 재생성 + 통계 갱신 (모두 만든 뒤에 기록 삭제)
+    public void createIndexes(String table, List<String> definitions) {
+        long start = System.currentTimeMillis();
+        for (String definition : definitions) {
+            jdbcTemplate.execute(definition);
+        }
+        pendingIndexRepository.deleteByTableName(table);
+        jdbcTemplate.execute("ANALYZE \"" + table + "\"");
+        log.info("🗂️ 적재 후 인덱스 생성 완료: table={}, indexes={}, {}ms", table, definitions.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 이전 실행이 내리고 다시 만들지 못한 인덱스 재생성 (이미 있는 인덱스는 건너뜀)
+     * @return 재생성한 인덱스 수
+     */
+    public int recreatePendingIndexes(String table) {
+        List<BatchPendingIndex> pending = pendingIndexRepository.findByTableName(table);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        int created = 0;
+        for (BatchPendingIndex index : pending) {
+            Integer exists = jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM pg_indexes WHERE schemaname = current_schema() AND indexname = ?",
+                    Integer.class, index.getIndexName());
+            if (exists == null || exists == 0) {
+                jdbcTemplate.execute(index.getDefinition());
+                created++;
+            }
+        }
+        pendingIndexRepository.deleteByTableName(table);
+        log.warn("🗂️ 이전 실행에서 남은 보조 인덱스 재생성: table={}, indexes={}", table, created);
+        return created;
+    }
+}
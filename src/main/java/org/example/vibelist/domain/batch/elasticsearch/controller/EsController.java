@@ -2,6 +2,8 @@ package org.example.vibelist.domain.batch.elasticsearch.controller;
 
 import lombok.RequiredArgsConstructor;
 
+import org.example.vibelist.domain.batch.elasticsearch.service.AudioFeatureIndexRebuildService;
+import org.example.vibelist.domain.batch.elasticsearch.service.EsReindexService;
 import org.example.vibelist.domain.batch.elasticsearch.service.EsService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -17,6 +19,8 @@ import io.swagger.v3.oas.annotations.Operation;
 @RequiredArgsConstructor
 public class EsController {
     private final EsService esService;
+    private final EsReindexService esReindexService;
+    private final AudioFeatureIndexRebuildService indexRebuildService;
     @Operation(summary = "RDS to ES 데이터 이관", description = "Rds에 저장되어 있는 Audio-feature 데이터들을 ElasticSearch로 옮기는 메소드.")
     @GetMapping("/insert")
     public ResponseEntity<RsData<String>> rdsToEs() {
@@ -28,4 +32,35 @@ public class EsController {
         }
     }
 
+    @Operation(summary = "RDS to ES 전체 재색인", description = "track + audio_feature 전체를 audio_feature_index로 bulk 색인하는 메소드. 중단된 경우 마지막으로 완료된 ID 다음부터 이어서 색인.")
+    @GetMapping("/reindex")
+    public ResponseEntity<RsData<String>> reindex() {
+        try {
+            esReindexService.executeBatch();
+            return ResponseEntity.ok(RsData.success(ResponseCode.BATCH_SUCCESS, "reindex success"));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body(RsData.fail(ResponseCode.BATCH_FAILED));
+        }
+    }
+
+    @Operation(summary = "ES 인덱스 무중단 재구축", description = "새 버전 인덱스에 전체 색인 후 검증/warm-up을 거쳐 audio_feature_index 별칭을 교체하는 메소드.")
+    @GetMapping("/rebuild")
+    public ResponseEntity<RsData<String>> rebuild() {
+        try {
+            return ResponseEntity.ok(RsData.success(ResponseCode.BATCH_SUCCESS, indexRebuildService.rebuild()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body(RsData.fail(ResponseCode.BATCH_FAILED));
+        }
+    }
+
+    @Operation(summary = "ES 인덱스 롤백", description = "audio_feature_index 별칭을 직전 버전 인덱스로 되돌리는 메소드.")
+    @GetMapping("/rollback")
+    public ResponseEntity<RsData<String>> rollback() {
+        try {
+            return ResponseEntity.ok(RsData.success(ResponseCode.BATCH_SUCCESS, indexRebuildService.rollback()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body(RsData.fail(ResponseCode.BATCH_FAILED));
+        }
+    }
+
 }
@@ -2,12 +2,16 @@ package org.example.vibelist.domain.batch.elasticsearch.dto;
 
 import jakarta.persistence.Id;
 import lombok.Data;
+import org.example.vibelist.domain.playlist.es.document.AudioFeatureEsDocument;
 import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.KnnSimilarity;
 
 import java.util.List;
 
 @Data
-@Document(indexName = "audio_feature_index")
+@Document(indexName = AudioFeatureEsDocument.INDEX_ALIAS)
 public class EsDoc {
     @Id
     private String id;
@@ -24,8 +28,12 @@ public class EsDoc {
     private double tempo;
     private int durationMs;
     private double timeSignature;
-    private List<String> genres;//RDS에는 하나의 String으로 저장되어 있는데 나중에 ; 기준으로 Split해야함
+    @Field(type = FieldType.Keyword)
+    private List<String> genres;//RDS에는 하나의 String으로 저장되어 있는데 ; 기준으로 Split (GenreDictionary), 추천 장르 필터용 keyword
     private String spotifyId; //playlist에 대한 id
+    private int randomKey; // 추천 무작위 샘플링용 정렬 키 (ESQueryBuilder.randomKeyOf)
+    @Field(type = FieldType.Dense_Vector, dims = 2, knnSimilarity = KnnSimilarity.L2_NORM)
+    private float[] featureVector; // 최근접 이웃 추천용 (valence, energy) 벡터
 
     //--------audio feature -----//
 
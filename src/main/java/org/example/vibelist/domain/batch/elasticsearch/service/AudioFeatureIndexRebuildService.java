@@ -0,0 +1,324 @@
+package org.example.vibelist.domain.batch.elasticsearch.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.HealthStatus;
+import co.elastic.clients.elasticsearch.indices.IndexState;
+import co.elastic.clients.json.JsonData;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.vibelist.domain.batch.elasticsearch.dto.EsDoc;
+import org.example.vibelist.domain.batch.service.BatchService;
+import org.example.vibelist.domain.playlist.emotion.profile.EmotionProfileManager;
+import org.example.vibelist.domain.playlist.emotion.type.EmotionType;
+import org.example.vibelist.domain.playlist.es.builder.ESQueryBuilder;
+import org.example.vibelist.domain.playlist.es.builder.RandomSampleRequestBuilder;
+import org.example.vibelist.domain.playlist.es.document.AudioFeatureEsDocument;
+import org.example.vibelist.domain.playlist.grid.FeatureGridIndex;
+import org.example.vibelist.domain.playlist.pool.RecommendPoolScheduler;
+import org.example.vibelist.global.response.GlobalException;
+import org.example.vibelist.global.response.ResponseCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * audio_feature_index 무중단 재구축 (blue/green)
+ * - 검색은 항상 읽기 별칭(AudioFeatureEsDocument.INDEX_ALIAS)으로만 하고, 실제 데이터는 audio_feature_index_v<yyyyMMddHHmmss> 인덱스에 있음
+ * 1. 새 버전 인덱스 생성 (EsDoc 매핑) -> EsReindexService로 전체 색인 (서비스 중인 인덱스는 건드리지 않음)
+ * 2. 문서 수 검증 + 상태 대기 + 감정별 추천 쿼리로 warm-up -> 통과하면 매핑 _meta에 verified 표시
+ *    (실패하면 새 인덱스 삭제, 프로세스가 죽어 남은 미검증 인덱스는 롤백/보관 대상에서 제외되고 다음 재구축 때 정리)
+ * 3. 별칭을 한 번의 _aliases 요청으로 교체 (이전 버전에서 제거 + 새 버전에 추가)
+ * 4. 추천 pool / feature grid 갱신, 오래된 버전 정리 (keep-versions개 유지)
+ * 5. 증분 동기화 watermark를 색인 시작 시각으로 되돌려 재구축 중 바뀐 행을 새 인덱스에 반영
+ * - 롤백은 별칭을 직전 버전으로 다시 옮기는 것뿐
+ * - 재구축/롤백은 한 번에 하나만 실행 (같은 노드에서 API와 배치가 동시에 시작해도 중복 실행하지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AudioFeatureIndexRebuildService implements BatchService {
+
+    private static final String ALIAS = AudioFeatureEsDocument.INDEX_ALIAS;
+    private static final String VERSION_PREFIX = ALIAS + "_v";
+    private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    // 검증/warm-up을 통과한 버전 표시 (매핑 _meta)
+    private static final String VERIFIED_META = "verified";
+
+    private final ElasticsearchClient client;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final EsReindexService esReindexService;
+    private final EsIncrementalSyncService esIncrementalSyncService;
+    private final EmotionProfileManager profileManager;
+    private final RecommendPoolScheduler recommendPoolScheduler;
+    private final FeatureGridIndex featureGridIndex;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    // 새 인덱스 문서 수가 현재 인덱스의 이 비율보다 적으면 교체하지 않음
+    @Value("${es.rebuild.min-doc-ratio:0.9}")
+    private double minDocRatio;
+
+    // 감정별 warm-up 쿼리 반복 횟수
+    @Value("${es.rebuild.warmup-rounds:3}")
+    private int warmupRounds;
+
+    // 교체 전 기다릴 인덱스 상태 (단일 노드면 replica가 배정되지 않으므로 yellow)
+    @Value("${es.rebuild.wait-for-status:yellow}")
+    private String waitForStatus;
+
+    // 현재 버전 포함 보관할 버전 수 (롤백 대상)
+    @Value("${es.rebuild.keep-versions:2}")
+    private int keepVersions;
+
+    @Override
+    public void executeBatch() {
+        rebuild();
+    }
+
+    /**
+     * 새 버전 인덱스를 만들어 색인/검증/warm-up 후 별칭 교체
+     * @return 새로 서비스되는 인덱스 이름
+     */
+    public String rebuild() {
+        acquire();
+        try {
+            return rebuildExclusively();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 별칭을 현재 버전 직전 버전으로 되돌림
+     * @return 다시 서비스되는 인덱스 이름
+     */
+    public String rollback() {
+        acquire();
+        try {
+            return rollbackExclusively();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void acquire() {
+        if (!running.compareAndSet(false, true)) {
+            throw new GlobalException(ResponseCode.BATCH_FAILED, "audio_feature 인덱스 재구축/롤백이 이미 진행 중입니다.");
+        }
+    }
+
+    private String rebuildExclusively() {
+        String target = VERSION_PREFIX + LocalDateTime.now().format(VERSION_FORMAT);
+        log.info("🔨 audio_feature 인덱스 재구축 시작: alias={}, target={}", ALIAS, target);
+
+        // 색인 중/후에 커밋되는 행(열린 트랜잭션 포함)은 교체 후 증분 동기화가 다시 반영
+        LocalDateTime reindexStartedAt = esIncrementalSyncService.committedUpTo();
+        markServedVersionsVerified();
+        createIndex(target);
+        try {
+            esReindexService.reindex(target);
+            verify(target);
+            warmUp(target);
+            markVerified(target);
+        } catch (IOException e) {
+            discard(target);
+            throw new GlobalException(ResponseCode.BATCH_FAILED, "새 인덱스 검증 실패: " + target);
+        } catch (RuntimeException e) {
+            discard(target);
+            throw e;
+        }
+
+        swapAlias(target);
+        esIncrementalSyncService.rewindTo(reindexStartedAt);
+        refreshDerivedData();
+        deleteOldVersions(target);
+        return target;
+    }
+
+    private String rollbackExclusively() {
+        Map<String, IndexState> indices = listIndices();
+        List<String> versions = verifiedVersions(indices);
+        List<String> current = aliasedIndices(indices);
+        String latestServed = current.stream().filter(versions::contains).max(String::compareTo).orElse(null);
+        String previous = versions.stream()
+                .filter(v -> latestServed == null || v.compareTo(latestServed) < 0)
+                .max(String::compareTo)
+                .orElseThrow(() -> new GlobalException(ResponseCode.BATCH_FAILED, "롤백할 이전 버전 인덱스가 없습니다."));
+
+        log.info("↩️ audio_feature 인덱스 롤백: {} -> {}", current, previous);
+        swapAlias(previous);
+        refreshDerivedData();
+        return previous;
+    }
+
+    private void createIndex(String index) {
+        IndexOperations ops = elasticsearchOperations.indexOps(IndexCoordinates.of(index));
+        ops.create();
+        ops.putMapping(ops.createMapping(EsDoc.class));
+    }
+
+    // 새 인덱스 문서 수가 현재 서비스 중인 인덱스에 비해 너무 적으면 중단
+    private void verify(String target) throws IOException {
+        client.indices().refresh(r -> r.index(target));
+        long targetCount = client.count(c -> c.index(target)).count();
+        Map<String, IndexState> indices = listIndices();
+        boolean serving = indices.containsKey(ALIAS) || !aliasedIndices(indices).isEmpty();
+        long currentCount = serving ? client.count(c -> c.index(ALIAS)).count() : 0;
+        log.info("🔎 새 인덱스 검증: target={}건, 현재={}건", targetCount, currentCount);
+        if (targetCount == 0 || targetCount < currentCount * minDocRatio) {
+            throw new GlobalException(ResponseCode.BATCH_FAILED,
+                    "새 인덱스 문서 수 부족: " + target + "=" + targetCount + ", 현재=" + currentCount);
+        }
+    }
+
+    // shard 배정을 기다린 뒤 실제 추천 쿼리를 보내 캐시/세그먼트를 데움
+    private void warmUp(String target) throws IOException {
+        long start = System.currentTimeMillis();
+        client.cluster().health(h -> h
+                .index(target)
+                .waitForStatus(HealthStatus.valueOf(capitalize(waitForStatus)))
+                .timeout(t -> t.time("60s")));
+        for (int round = 0; round < warmupRounds; round++) {
+            for (EmotionType emotion : EmotionType.values()) {
+                client.search(RandomSampleRequestBuilder.build(target,
+                                ESQueryBuilder.build(profileManager.getProfile(emotion)), 20, ESQueryBuilder.randomStart()),
+                        AudioFeatureEsDocument.class);
+            }
+        }
+        log.info("🔥 새 인덱스 warm-up 완료: target={}, {}ms", target, System.currentTimeMillis() - start);
+    }
+
+    private void markVerified(String target) throws IOException {
+        client.indices().putMapping(m -> m.index(target).meta(VERIFIED_META, JsonData.of(true)));
+    }
+
+    // 표시 도입 전부터 서비스 중인 버전은 검증된 것으로 간주 (교체 후 롤백 대상으로 남도록)
+    private void markServedVersionsVerified() {
+        Map<String, IndexState> indices = listIndices();
+        for (String index : aliasedIndices(indices)) {
+            if (!index.startsWith(VERSION_PREFIX) || isVerified(indices.get(index))) continue;
+            try {
+                markVerified(index);
+            } catch (IOException e) {
+                throw new GlobalException(ResponseCode.BATCH_FAILED, "인덱스 검증 표시 실패: " + index);
+            }
+        }
+    }
+
+    // 실패한 재구축의 새 인덱스와 재색인 체크포인트 정리 (삭제 실패 시 미검증 인덱스로 남아 다음 재구축 때 정리)
+    private void discard(String target) {
+        esReindexService.clearCheckpoint(target);
+        try {
+            client.indices().delete(d -> d.index(target));
+            log.info("🗑️ 재구축 실패 인덱스 삭제: {}", target);
+        } catch (IOException | RuntimeException e) {
+            log.warn("⚠️ 재구축 실패 인덱스 삭제 실패: {}", target, e);
+        }
+    }
+
+    /**
+     * 별칭 원자적 교체
+     * - 별칭을 가진 기존 인덱스에서 제거하고 target에 추가
+     * - 별칭과 같은 이름의 실제 인덱스(별칭 도입 전 인덱스)가 있으면 같은 요청에서 삭제 (이 경우는 롤백 불가)
+     */
+    private void swapAlias(String target) {
+        try {
+            Map<String, IndexState> indices = listIndices();
+            List<String> current = aliasedIndices(indices);
+            boolean legacyIndex = indices.containsKey(ALIAS);
+            client.indices().updateAliases(u -> {
+                u.actions(a -> a.add(add -> add.index(target).alias(ALIAS)));
+                for (String index : current) {
+                    if (!index.equals(target)) {
+                        u.actions(a -> a.remove(remove -> remove.index(index).alias(ALIAS)));
+                    }
+                }
+                if (legacyIndex) {
+                    u.actions(a -> a.removeIndex(remove -> remove.index(ALIAS)));
+                }
+                return u;
+            });
+            log.info("🔀 별칭 교체 완료: alias={}, {} -> {}{}", ALIAS, current, target, legacyIndex ? " (기존 실제 인덱스 삭제)" : "");
+        } catch (IOException e) {
+            throw new GlobalException(ResponseCode.BATCH_FAILED, "별칭 교체 실패: " + target);
+        }
+    }
+
+    // 별칭 대상이 바뀌었으므로 ES에서 만들어지는 추천 데이터 갱신
+    private void refreshDerivedData() {
+        recommendPoolScheduler.refreshAllEmotionPools();
+        featureGridIndex.rebuild();
+    }
+
+    /**
+     * 별칭이 없는 검증된 버전 중 최신 keep-versions개(현재 버전 포함) 이외 + 이전 재구축이 남긴 미검증 버전 삭제
+     * - 미검증 버전은 방금 교체한 target보다 오래된 것만 (그 이후 이름은 다른 노드에서 색인 중인 인덱스일 수 있음)
+     */
+    private void deleteOldVersions(String target) {
+        Map<String, IndexState> indices = listIndices();
+        List<String> current = aliasedIndices(indices);
+        List<String> verified = new ArrayList<>(verifiedVersions(indices));
+        verified.sort(Comparator.reverseOrder());
+        List<String> stale = new ArrayList<>(verified.subList(Math.min(Math.max(1, keepVersions), verified.size()), verified.size()));
+        versions(indices).stream()
+                .filter(v -> !verified.contains(v) && v.compareTo(target) < 0)
+                .forEach(stale::add);
+        for (String index : stale) {
+            if (current.contains(index)) continue;
+            try {
+                client.indices().delete(d -> d.index(index));
+                log.info("🗑️ 오래된 인덱스 삭제: {}", index);
+            } catch (IOException | RuntimeException e) {
+                log.warn("⚠️ 오래된 인덱스 삭제 실패: {}", index, e);
+            }
+        }
+    }
+
+    // audio_feature_index 로 시작하는 모든 인덱스 (별칭 정보 포함)
+    private Map<String, IndexState> listIndices() {
+        try {
+            return client.indices().get(g -> g.index(ALIAS + "*")).result();
+        } catch (IOException e) {
+            throw new GlobalException(ResponseCode.BATCH_FAILED, "인덱스 목록 조회 실패: " + ALIAS);
+        }
+    }
+
+    private static List<String> versions(Map<String, IndexState> indices) {
+        return indices.keySet().stream().filter(name -> name.startsWith(VERSION_PREFIX)).sorted().toList();
+    }
+
+    private static List<String> verifiedVersions(Map<String, IndexState> indices) {
+        return versions(indices).stream().filter(name -> isVerified(indices.get(name))).toList();
+    }
+
+    private static boolean isVerified(IndexState state) {
+        if (state.mappings() == null || state.mappings().meta() == null) {
+            return false;
+        }
+        JsonData verified = state.mappings().meta().get(VERIFIED_META);
+        return verified != null && Boolean.TRUE.equals(verified.to(Boolean.class));
+    }
+
+    private static List<String> aliasedIndices(Map<String, IndexState> indices) {
+        return indices.entrySet().stream()
+                .filter(e -> e.getValue().aliases() != null && e.getValue().aliases().containsKey(ALIAS))
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+    }
+
+    private static String capitalize(String status) {
+        String lower = status.trim().toLowerCase();
+        return Character.toUpperCase(lower.charAt(0)) + lower.substring(1);
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.vibelist.domain.batch.elasticsearch.service;
+
+import org.example.vibelist.domain.batch.audiofeature.entity.AudioFeature;
+import org.example.vibelist.domain.playlist.entity.Track;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDateTime;
+
+/**
+ * track JOIN audio_feature 한 행 (ES 문서 하나의 원본)
+ * 재색인/증분 동기화가 같은 SELECT 컬럼과 매퍼를 사용
+ */
+record CatalogRow(AudioFeature audioFeature, Track track) {
+
+    static final String COLUMNS =
+            "af.audio_feature_id, af.danceability, af.energy, af.key, af.loudness, af.mode, af.speechiness, " +
+            "af.acousticness, af.instrumentalness, af.liveness, af.valence, af.tempo, af.duration_ms, af.time_signature, " +
+            "af.spotify_id, af.genres, af.updated_at AS feature_updated_at, " +
+            "t.track_id, t.title, t.artist, t.album, t.popularity, t.explicit, t.image_url, t.updated_at AS track_updated_at";
+
+    static final String FROM = "FROM audio_feature af JOIN track t ON t.audio_feature_id = af.audio_feature_id";
+
+    static final RowMapper<CatalogRow> MAPPER = (rs, rowNum) -> {
+        AudioFeature af = new AudioFeature();
+        af.setId(rs.getLong("audio_feature_id"));
+        af.setDanceability(rs.getDouble("danceability"));
+        af.setEnergy(rs.getDouble("energy"));
+        af.setKey(rs.getInt("key"));
+        af.setLoudness(rs.getDouble("loudness"));
+        af.setMode(rs.getInt("mode"));
+        af.setSpeechiness(rs.getDouble("speechiness"));
+        af.setAcousticness(rs.getDouble("acousticness"));
+        af.setInstrumentalness(rs.getDouble("instrumentalness"));
+        af.setLiveness(rs.getDouble("liveness"));
+        af.setValence(rs.getDouble("valence"));
+        af.setTempo(rs.getDouble("tempo"));
+        af.setDurationMs(rs.getInt("duration_ms"));
+        af.setTimeSignature(rs.getDouble("time_signature"));
+        af.setSpotifyId(rs.getString("spotify_id"));
+        af.setGenres(rs.getString("genres"));
+        af.setUpdatedAt(rs.getObject("feature_updated_at", LocalDateTime.class));
+        Track track = Track.builder()
+                .id(rs.getLong("track_id"))
+                .title(rs.getString("title"))
+                .artist(rs.getString("artist"))
+                .album(rs.getString("album"))
+                .popularity(rs.getInt("popularity"))
+                .explicit(rs.getBoolean("explicit"))
+                .imageUrl(rs.getString("image_url"))
+                .updatedAt(rs.getObject("track_updated_at", LocalDateTime.class))
+                .build();
+        return new CatalogRow(af, track);
+    };
+}
@@ -0,0 +1,233 @@
+package org.example.vibelist.domain.batch.elasticsearch.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.vibelist.domain.batch.checkpoint.Checkpoint;
+import org.example.vibelist.domain.batch.checkpoint.CheckpointStore;
+import org.example.vibelist.domain.batch.elasticsearch.dto.EsDoc;
+import org.example.vibelist.domain.playlist.es.document.AudioFeatureEsDocument;
+import org.example.vibelist.global.response.GlobalException;
+import org.example.vibelist.global.response.ResponseCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * track / audio_feature 변경분만 ES에 반영하는 증분 동기화 (updated_at watermark)
+ * - 두 테이블 중 하나라도 updated_at이 watermark 이후인 행을 (변경 시각, audio_feature_id) 순서로 page-size씩 조회
+ * - 바뀐 쪽 필드만 담은 부분 문서로 _bulk update (track -> trackMetrics, audio_feature -> 오디오 특성/장르/벡터)
+ *   문서가 아직 없으면 전체 문서를 upsert
+ * - 조회 상한 = min(DB 현재 시각 - lag-ms, 진행 중인 트랜잭션 중 가장 이른 시작 시각 - 1µs)
+ *   updated_at 기본값 now()는 커밋 시각이 아니라 트랜잭션 시작 시각이므로, 긴 트랜잭션(적재 청크 등)이 커밋되기 전에
+ *   watermark가 그 시작 시각을 넘어가면 그 행은 영영 조회되지 않음 -> 열린 트랜잭션이 끝날 때까지 상한을 묶어 둠
+ *   (같은 DB 계정의 세션만 보이므로 적재/서비스가 같은 계정을 쓴다는 전제, 오래 열린 유휴 트랜잭션이 있으면 동기화가 지연됨)
+ * - 대량 적재(audio_feature COPY 등) 후에는 변경분이 테이블 전체이므로 증분 동기화 대신 인덱스 재구축 권장
+ * - watermark는 CheckpointStore에 epoch 마이크로초로 저장, 첫 실행은 현재 시각부터 시작 (기존 데이터는 전체 재색인으로)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EsIncrementalSyncService {
+
+    private static final String JOB_NAME = "es_incremental_sync";
+    private static final String TRACK_FIELD = "trackMetrics";
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    // 변경 시각 = 두 테이블 updated_at 중 늦은 값
+    private static final String CHANGED_AT = "GREATEST(t.updated_at, af.updated_at)";
+    private static final String SELECT_SQL = "SELECT " + CatalogRow.COLUMNS + ", " + CHANGED_AT + " AS changed_at " +
+            CatalogRow.FROM +
+            " WHERE (t.updated_at > ? OR af.updated_at > ?)" +   // updated_at 인덱스로 후보 축소
+            " AND " + CHANGED_AT + " <= ?" +
+            " AND (" + CHANGED_AT + " > ? OR (" + CHANGED_AT + " = ? AND af.audio_feature_id > ?))" +
+            " ORDER BY changed_at, af.audio_feature_id LIMIT ?";
+    // LEAST는 NULL을 무시 (열린 트랜잭션이 없으면 현재 시각 - lag)
+    private static final String UPPER_SQL = "SELECT LEAST(LOCALTIMESTAMP - ? * INTERVAL '1 millisecond', " +
+            "(SELECT MIN(xact_start)::timestamp - INTERVAL '1 microsecond' FROM pg_stat_activity" +
+            " WHERE datname = current_database() AND pid <> pg_backend_pid()" +
+            " AND backend_type = 'client backend' AND xact_start IS NOT NULL))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ElasticsearchClient client;
+    private final EsService esService;
+    private final CheckpointStore checkpointStore;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    // 한 노드에서만 켜야 함
+    @Value("${es.sync.enabled:false}")
+    private boolean enabled;
+
+    @Value("${es.sync.page-size:1000}")
+    private int pageSize;
+
+    @Value("${es.sync.lag-ms:5000}")
+    private long lagMs;
+
+    @Scheduled(fixedDelayString = "${es.sync.interval-ms:60000}", initialDelayString = "${es.sync.interval-ms:60000}")
+    public void scheduledSync() {
+        if (enabled) {
+            sync();
+        }
+    }
+
+    /**
+     * watermark 이후 변경분 동기화
+     * @return 반영한 문서 수
+     */
+    public long sync() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("⏭️ ES 증분 동기화가 이미 진행 중 - 이번 실행 건너뜀");
+            return 0;
+        }
+        try {
+            LocalDateTime upper = committedUpTo();
+            long stored = checkpointStore.load(JOB_NAME).watermark();
+            if (stored == 0) {
+                saveWatermark(upper);
+                log.info("📌 ES 증분 동기화 시작 지점 설정: {}", upper);
+                return 0;
+            }
+            LocalDateTime from = fromMicros(stored);
+            if (!upper.isAfter(from)) {
+                return 0;
+            }
+            return syncRange(from, upper);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * watermark를 주어진 시각 이전으로 되돌림 (재구축 중 바뀐 행을 새 인덱스에 다시 반영하기 위해)
+     */
+    public void rewindTo(LocalDateTime time) {
+        long stored = checkpointStore.load(JOB_NAME).watermark();
+        if (stored == 0 || toMicros(time) < stored) {
+            saveWatermark(time);
+            log.info("⏪ ES 증분 동기화 watermark 되돌림: {}", time);
+        }
+    }
+
+    /**
+     * 이 시각까지의 변경은 모두 커밋됨 (이후에 커밋되는 행도 이보다 이전 updated_at으로 기록되지 않음)
+     * - 증분 동기화 조회 상한, 재구축 시 watermark를 되돌릴 기준으로 사용
+     */
+    public LocalDateTime committedUpTo() {
+        return jdbcTemplate.queryForObject(UPPER_SQL, LocalDateTime.class, lagMs);
+    }
+
+    private long syncRange(LocalDateTime from, LocalDateTime upper) {
+        long start = System.currentTimeMillis();
+        long synced = 0;
+        LocalDateTime lastChangedAt = from;
+        long lastId = Long.MAX_VALUE; // from 시각의 행은 이전 실행에서 처리됨
+        try {
+            while (true) {
+                List<ChangedRow> rows = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new ChangedRow(
+                                CatalogRow.MAPPER.mapRow(rs, rowNum), rs.getObject("changed_at", LocalDateTime.class)),
+                        from, from, upper, lastChangedAt, lastChangedAt, lastId, pageSize);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                sendUpdates(rows, from);
+                synced += rows.size();
+                ChangedRow last = rows.get(rows.size() - 1);
+                lastChangedAt = last.changedAt();
+                lastId = last.row().audioFeature().getId();
+                if (rows.size() < pageSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            // 마지막으로 끝난 시각의 행부터 다시 (같은 시각 행은 중복 반영되어도 결과 동일)
+            if (lastChangedAt.isAfter(from)) {
+                saveWatermark(lastChangedAt.minus(1, ChronoUnit.MICROS));
+            }
+            log.error("❌ ES 증분 동기화 실패: {}건 반영 후 중단", synced, e);
+            throw e;
+        }
+        saveWatermark(upper);
+        if (synced > 0) {
+            log.info("🔄 ES 증분 동기화: {}건, {} ~ {}, {}ms", synced, from, upper, System.currentTimeMillis() - start);
+        }
+        return synced;
+    }
+
+    private void sendUpdates(List<ChangedRow> rows, LocalDateTime from) {
+        BulkRequest.Builder builder = new BulkRequest.Builder().index(AudioFeatureEsDocument.INDEX_ALIAS);
+        for (ChangedRow changed : rows) {
+            EsDoc doc = esService.convertToEs(changed.row().audioFeature(), changed.row().track());
+            Map<String, Object> partial = partialDoc(doc, changed.row(), from);
+            builder.operations(o -> o.update(u -> u
+                    .id(doc.getId())
+                    .action(a -> a.doc(partial).upsert(doc))));
+        }
+        try {
+            BulkResponse response = client.bulk(builder.build());
+            if (response.errors()) {
+                String reason = response.items().stream()
+                        .filter(item -> item.error() != null)
+                        .findFirst()
+                        .map(BulkResponseItem::error)
+                        .map(error -> error.reason())
+                        .orElse(null);
+                throw new GlobalException(ResponseCode.BATCH_FAILED, "ES 부분 업데이트 실패: " + reason);
+            }
+        } catch (IOException e) {
+            throw new GlobalException(ResponseCode.BATCH_FAILED, "ES 부분 업데이트 실패: " + e.getMessage());
+        }
+    }
+
+    // 바뀐 테이블에서 오는 필드만 남긴 부분 문서
+    private Map<String, Object> partialDoc(EsDoc doc, CatalogRow row, LocalDateTime from) {
+        boolean trackChanged = isAfter(row.track().getUpdatedAt(), from);
+        boolean featureChanged = isAfter(row.audioFeature().getUpdatedAt(), from);
+        Map<String, Object> full = objectMapper.convertValue(doc, MAP_TYPE);
+        Map<String, Object> partial = new LinkedHashMap<>();
+        full.forEach((field, value) -> {
+            if (field.equals("id")) return;
+            boolean trackField = field.equals(TRACK_FIELD);
+            if (trackField ? trackChanged : featureChanged) {
+                partial.put(field, value);
+            }
+        });
+        return partial;
+    }
+
+    private void saveWatermark(LocalDateTime time) {
+        checkpointStore.save(JOB_NAME, new Checkpoint(toMicros(time), Collections.emptySortedSet()));
+    }
+
+    private static boolean isAfter(LocalDateTime time, LocalDateTime from) {
+        return time != null && time.isAfter(from);
+    }
+
+    private static long toMicros(LocalDateTime time) {
+        return ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), time);
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC).plus(micros, ChronoUnit.MICROS);
+    }
+
+    private record ChangedRow(CatalogRow row, LocalDateTime changedAt) {
+    }
+}
@@ -0,0 +1,335 @@
+package org.example.vibelist.domain.batch.elasticsearch.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.indices.IndexSettings;
+import co.elastic.clients.util.BinaryData;
+import co.elastic.clients.util.ContentType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.vibelist.domain.batch.checkpoint.Checkpoint;
+import org.example.vibelist.domain.batch.checkpoint.CheckpointStore;
+import org.example.vibelist.domain.batch.elasticsearch.dto.EsDoc;
+import org.example.vibelist.domain.batch.service.BatchService;
+import org.example.vibelist.domain.playlist.es.document.AudioFeatureEsDocument;
+import org.example.vibelist.global.response.GlobalException;
+import org.example.vibelist.global.response.ResponseCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
+
+/**
+ * PostgreSQL(track + audio_feature) -> audio_feature_index 전체 재색인
+ * 1. reader(현재 스레드): audio_feature_id 커서로 page-size행씩 조회 (OFFSET 없음)
+ * 2. 변환: page를 parallel stream으로 convertToEs + JSON 직렬화
+ * 3. bulk writer(bulk-concurrency): 직렬화된 크기가 bulk-bytes에 이르면 _bulk 한 번으로 전송
+ * - 적재 중에는 대상 인덱스를 replicas 0, refresh -1로 두고 끝나면 원래 설정으로 되돌림
+ *   (서비스 중인 별칭에 바로 색인하는 /reindex는 검색 중인 인덱스라 설정을 바꾸지 않음)
+ * - 완료된 bulk까지의 마지막 audio_feature_id를 체크포인트로 저장 -> 실패 후 다시 실행하면 그 다음부터 이어서 색인
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EsReindexService implements BatchService {
+
+    private static final String JOB_PREFIX = "es_reindex_";
+    private static final int MAX_BULK_RETRIES = 3;
+    private static final long RETRY_BASE_DELAY_MS = 1000;
+
+    private static final String SELECT_SQL = "SELECT " + CatalogRow.COLUMNS + " " + CatalogRow.FROM +
+            " WHERE af.audio_feature_id > ? ORDER BY af.audio_feature_id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ElasticsearchClient client;
+    private final EsService esService;
+    private final CheckpointStore checkpointStore;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${es.reindex.page-size:2000}")
+    private int pageSize;
+
+    @Value("${es.reindex.bulk-bytes:5242880}")
+    private long bulkBytes;
+
+    @Value("${es.reindex.bulk-concurrency:2}")
+    private int bulkConcurrency;
+
+    @Override
+    public void executeBatch() {
+        reindex(AudioFeatureEsDocument.INDEX_ALIAS);
+    }
+
+    /**
+     * 대상 인덱스(이미 매핑이 만들어진 인덱스 또는 인덱스 하나를 가리키는 별칭)에 전체 카탈로그 색인
+     */
+    public void reindex(String index) {
+        String jobName = JOB_PREFIX + index;
+        long resumeAfter = checkpointStore.load(jobName).watermark();
+        log.info("📦 ES 재색인 시작: index={}, page={}, bulk={}bytes, 동시 bulk={}, 재시작 ID={}",
+                index, pageSize, bulkBytes, bulkConcurrency, resumeAfter);
+
+        // 서비스 중인 별칭은 replica/refresh를 끄면 검색 가용성과 최신성이 떨어지므로 설정 그대로 색인
+        boolean tuneSettings = !AudioFeatureEsDocument.INDEX_ALIAS.equals(index);
+        IndexSettings original = tuneSettings ? loadSettings(index) : null;
+        if (tuneSettings) {
+            applyBulkSettings(index);
+        }
+        try {
+            Stats stats = load(index, jobName, resumeAfter);
+            checkpointStore.clear(jobName);
+            long elapsed = Math.max(1, stats.elapsedMs());
+            log.info("🏁 ES 재색인 완료: index={}, {}건, {}MB, {}ms, {}건/초",
+                    index, stats.docs(), stats.bytes() >> 20, elapsed, stats.docs() * 1000 / elapsed);
+        } finally {
+            if (tuneSettings) {
+                restoreSettings(index, original);
+            }
+        }
+    }
+
+    // 대상 인덱스를 버리는 경우(재구축 실패) 남은 재시작 지점 삭제
+    public void clearCheckpoint(String index) {
+        checkpointStore.clear(JOB_PREFIX + index);
+    }
+
+    private Stats load(String index, String jobName, long resumeAfter) {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicLong docs = new AtomicLong();
+        AtomicLong bytes = new AtomicLong();
+        Progress progress = new Progress(resumeAfter);
+        Semaphore inFlight = new Semaphore(bulkConcurrency);
+        long start = System.currentTimeMillis();
+
+        ExecutorService writers = Executors.newFixedThreadPool(bulkConcurrency);
+        try {
+            long lastId = resumeAfter;
+            long seq = 0;
+            List<IndexOp> batch = new ArrayList<>();
+            long batchBytes = 0;
+            while (failure.get() == null) {
+                List<CatalogRow> rows = jdbcTemplate.query(SELECT_SQL, CatalogRow.MAPPER, lastId, pageSize);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                lastId = rows.get(rows.size() - 1).audioFeature().getId();
+
+                // 변환/직렬화는 CPU 작업이라 병렬로 (순서 유지)
+                List<IndexOp> ops = rows.parallelStream().map(this::toIndexOp).toList();
+                for (IndexOp op : ops) {
+                    batch.add(op);
+                    batchBytes += op.source().length;
+                    if (batchBytes >= bulkBytes) {
+                        submitBulk(writers, index, seq++, batch, batchBytes, progress, inFlight, docs, bytes, failure, jobName);
+                        batch = new ArrayList<>();
+                        batchBytes = 0;
+                    }
+                }
+                if (rows.size() < pageSize) {
+                    break;
+                }
+            }
+            if (!batch.isEmpty() && failure.get() == null) {
+                submitBulk(writers, index, seq, batch, batchBytes, progress, inFlight, docs, bytes, failure, jobName);
+            }
+            writers.shutdown();
+            awaitQuietly(writers, docs, start);
+        } finally {
+            writers.shutdownNow();
+        }
+
+        if (failure.get() != null) {
+            log.error("❌ ES 재색인 중단: index={}, 색인={}건, 재시작 ID={}", index, docs.get(), progress.resumeAfter(), failure.get());
+            throw new GlobalException(ResponseCode.BATCH_FAILED, "ES 재색인 실패: " + failure.get().getMessage());
+        }
+        return new Stats(docs.get(), bytes.get(), System.currentTimeMillis() - start);
+    }
+
+    private void submitBulk(ExecutorService writers, String index, long seq, List<IndexOp> batch, long batchBytes,
+                            Progress progress, Semaphore inFlight, AtomicLong docs, AtomicLong bytes,
+                            AtomicReference<Throwable> failure, String jobName) {
+        // 동시에 보낼 수 있는 bulk 수만큼만 reader가 앞서 나감
+        inFlight.acquireUninterruptibly();
+        long lastId = batch.get(batch.size() - 1).audioFeatureId();
+        progress.register(seq, lastId);
+        writers.submit(() -> {
+            try {
+                sendBulk(index, batch);
+                docs.addAndGet(batch.size());
+                bytes.addAndGet(batchBytes);
+                progress.completeAndSave(seq, resumeAfter ->
+                        checkpointStore.save(jobName, new Checkpoint(resumeAfter, Collections.emptySortedSet())));
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    // bulk 전송, 실패한 문서(예: 429 es_rejected_execution)만 골라 재시도
+    private void sendBulk(String index, List<IndexOp> ops) throws IOException, InterruptedException {
+        List<IndexOp> pending = ops;
+        for (int attempt = 0; ; attempt++) {
+            BulkResponse response = client.bulk(toBulkRequest(index, pending));
+            if (!response.errors()) {
+                return;
+            }
+            Map<String, IndexOp> byId = new ConcurrentHashMap<>();
+            pending.forEach(op -> byId.put(op.id(), op));
+            List<IndexOp> failed = new ArrayList<>();
+            String reason = null;
+            for (BulkResponseItem item : response.items()) {
+                if (item.error() != null) {
+                    failed.add(byId.get(item.id()));
+                    reason = item.error().reason();
+                }
+            }
+            if (attempt + 1 >= MAX_BULK_RETRIES) {
+                throw new IllegalStateException("bulk 실패 " + failed.size() + "건: " + reason);
+            }
+            log.warn("⚠️ bulk 일부 실패 {}건, 재시도 {}회차: {}", failed.size(), attempt + 1, reason);
+            Thread.sleep(RETRY_BASE_DELAY_MS << attempt);
+            pending = failed;
+        }
+    }
+
+    private static BulkRequest toBulkRequest(String index, List<IndexOp> ops) {
+        BulkRequest.Builder builder = new BulkRequest.Builder().index(index);
+        for (IndexOp op : ops) {
+            builder.operations(o -> o.index(i -> i
+                    .id(op.id())
+                    .document(BinaryData.of(op.source(), ContentType.APPLICATION_JSON))));
+        }
+        return builder.build();
+    }
+
+    private IndexOp toIndexOp(CatalogRow row) {
+        EsDoc doc = esService.convertToEs(row.audioFeature(), row.track());
+        try {
+            return new IndexOp(row.audioFeature().getId(), doc.getId(), objectMapper.writeValueAsBytes(doc));
+        } catch (JsonProcessingException e) {
+            throw new GlobalException(ResponseCode.BATCH_FAILED, "ES 문서 직렬화 실패: id=" + doc.getId());
+        }
+    }
+
+    // ====== 색인 설정 ======
+
+    private IndexSettings loadSettings(String index) {
+        try {
+            // 별칭으로 조회해도 실제 인덱스 이름이 키가 되므로 첫 항목 사용
+            return client.indices().getSettings(g -> g.index(index)).result().values().stream()
+                    .findFirst()
+                    .map(state -> state.settings() == null ? null : state.settings().index())
+                    .orElse(null);
+        } catch (IOException e) {
+            throw new GlobalException(ResponseCode.BATCH_FAILED, "인덱스 설정 조회 실패: " + index);
+        }
+    }
+
+    // 대량 색인 중에는 복제/refresh 비용을 없앰
+    private void applyBulkSettings(String index) {
+        putSettings(index, "0", "-1");
+        log.info("⚙️ 대량 색인 설정 적용: index={}, replicas=0, refresh_interval=-1", index);
+    }
+
+    private void restoreSettings(String index, IndexSettings original) {
+        String replicas = original == null || original.numberOfReplicas() == null ? "1" : original.numberOfReplicas();
+        String refresh = original == null || original.refreshInterval() == null || !original.refreshInterval().isTime()
+                ? "1s" : original.refreshInterval().time();
+        try {
+            putSettings(index, replicas, refresh);
+            client.indices().refresh(r -> r.index(index));
+            log.info("⚙️ 색인 설정 복구: index={}, replicas={}, refresh_interval={}", index, replicas, refresh);
+        } catch (IOException | RuntimeException e) {
+            log.error("🚨 색인 설정 복구 실패: index={} (replicas={}, refresh_interval={}로 직접 복구 필요)", index, replicas, refresh, e);
+        }
+    }
+
+    private void putSettings(String index, String replicas, String refreshInterval) {
+        try {
+            client.indices().putSettings(p -> p
+                    .index(index)
+                    .settings(s -> s
+                            .numberOfReplicas(replicas)
+                            .refreshInterval(t -> t.time(refreshInterval))));
+        } catch (IOException e) {
+            throw new GlobalException(ResponseCode.BATCH_FAILED, "인덱스 설정 변경 실패: " + index);
+        }
+    }
+
+    private static void awaitQuietly(ExecutorService executor, AtomicLong docs, long start) {
+        try {
+            while (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                long elapsed = Math.max(1, System.currentTimeMillis() - start);
+                log.info("⏳ ES 재색인 진행 중: {}건, {}건/초", docs.get(), docs.get() * 1000 / elapsed);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 직렬화된 색인 요청 한 건
+    private record IndexOp(long audioFeatureId, String id, byte[] source) {
+    }
+
+    private record Stats(long docs, long bytes, long elapsedMs) {
+    }
+
+    /**
+     * bulk 완료 순서와 관계없이 "여기까지는 모두 색인됨"인 마지막 audio_feature_id 계산
+     * (bulk 번호를 Checkpoint 청크로 사용)
+     */
+    private static final class Progress {
+        private final Map<Long, Long> lastIdBySeq = new ConcurrentHashMap<>();
+        private Checkpoint checkpoint = Checkpoint.empty();
+        private long resumeAfter;
+
+        Progress(long resumeAfter) {
+            this.resumeAfter = resumeAfter;
+        }
+
+        void register(long seq, long lastId) {
+            lastIdBySeq.put(seq, lastId);
+        }
+
+        /**
+         * bulk 완료를 반영한 재시작 ID를 저장한 뒤에만 메모리 상태를 전진
+         * - 계산과 저장을 같은 락 안에서 하므로 나중에 계산된(더 앞선) 재시작 ID가 먼저 저장되어 덮어써지지 않음
+         */
+        synchronized void completeAndSave(long seq, LongConsumer save) {
+            Checkpoint next = checkpoint.complete(seq);
+            long nextResumeAfter = resumeAfter;
+            for (long done = checkpoint.watermark(); done < next.watermark(); done++) {
+                nextResumeAfter = lastIdBySeq.get(done);
+            }
+            save.accept(nextResumeAfter);
+            for (long done = checkpoint.watermark(); done < next.watermark(); done++) {
+                lastIdBySeq.remove(done);
+            }
+            checkpoint = next;
+            resumeAfter = nextResumeAfter;
+        }
+
+        synchronized long resumeAfter() {
+            return resumeAfter;
+        }
+    }
+}
@@ -8,6 +8,8 @@ import org.example.vibelist.domain.batch.elasticsearch.dto.EsDoc;
 import org.example.vibelist.domain.batch.elasticsearch.dto.TrackMetrics;
 import org.example.vibelist.domain.batch.elasticsearch.repository.EsRepository;
 import org.example.vibelist.domain.playlist.entity.Track;
+import org.example.vibelist.domain.playlist.es.builder.ESQueryBuilder;
+import org.example.vibelist.domain.playlist.genre.GenreDictionary;
 import org.example.vibelist.domain.playlist.repository.TrackRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
@@ -16,7 +18,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -29,6 +30,7 @@ public class EsService {
     private final EsRepository esRepository;//ElasticSearch 접근
     private final AudioFeatureRepository audioFeatureRepository; //Rds 접근
     private final TrackRepository trackRepository;
+    private final GenreDictionary genreDictionary; // 장르 문자열 intern (재색인 parallel 변환에서 공유)
 
 
     @Autowired
@@ -113,12 +115,9 @@ public class EsService {
     public EsDoc convertToEs(AudioFeature audioFeature, Track track) {
         /*
         Rds에 저장되어있는 genre는 하나의 String 값입니다.
-        ; 기준으로 Split 했습니다.
+        ; 기준으로 나누고 GenreDictionary로 intern 했습니다.
          */
-        List<String> generList = Arrays.stream(audioFeature.getGenres()
-                        .split(";"))
-                .map(String::trim)
-                .toList();
+        List<String> generList = genreDictionary.parse(audioFeature.getGenres());
 
         //elasticSearch insert을 위한 변환
         EsDoc esDoc = new EsDoc();
@@ -139,6 +138,8 @@ public class EsService {
         esDoc.setTimeSignature(audioFeature.getTimeSignature());
         esDoc.setGenres(generList);
         esDoc.setSpotifyId(audioFeature.getSpotifyId());
+        esDoc.setRandomKey(ESQueryBuilder.randomKeyOf(audioFeature.getSpotifyId()));
+        esDoc.setFeatureVector(ESQueryBuilder.featureVector(audioFeature.getValence(), audioFeature.getEnergy()));
 
         TrackMetrics trackMetrics = new TrackMetrics();
         trackMetrics.setTrackId(String.valueOf(track.getId()));
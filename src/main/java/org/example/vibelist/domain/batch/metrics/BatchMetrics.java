@@ -0,0 +1,65 @@
+package org.example.vibelist.domain.batch.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실행 중인 배치 작업 하나의 처리량 집계 (여러 partition 스레드가 동시에 기록)
+ * - 진행률/ETA는 처리한 id 구간 기준 (전체 건수를 세는 count 쿼리 없이)
+ * - 이전 실행에서 끝난 구간은 진행률에는 포함하되 속도 계산에서는 제외
+ */
+public final class BatchMetrics {
+
+    private final String job;
+    private final long totalIds;
+    private final long startedAt = System.currentTimeMillis();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder chunks = new LongAdder();
+    private final LongAdder doneIds = new LongAdder();
+    private final LongAdder skippedIds = new LongAdder();
+    private volatile long finishedAt;
+
+    BatchMetrics(String job, long totalIds) {
+        this.job = job;
+        this.totalIds = Math.max(1, totalIds);
+    }
+
+    // 청크 하나 커밋 (ids: 이번 청크가 지나간 id 구간 폭)
+    public void chunkCommitted(int processedItems, int failedItems, long ids) {
+        processed.add(processedItems);
+        failed.add(failedItems);
+        chunks.increment();
+        doneIds.add(ids);
+    }
+
+    // 읽을 항목 없이 지나간 구간 (stripe 끝의 빈 구간)
+    public void advanced(long ids) {
+        doneIds.add(ids);
+    }
+
+    // 이전 실행에서 이미 끝난 구간
+    public void skipped(long ids) {
+        doneIds.add(ids);
+        skippedIds.add(ids);
+    }
+
+    public void finish() {
+        finishedAt = System.currentTimeMillis();
+    }
+
+    public BatchProgress snapshot() {
+        long end = finishedAt > 0 ? finishedAt : System.currentTimeMillis();
+        long elapsed = Math.max(1, end - startedAt);
+        long done = Math.min(totalIds, doneIds.sum());
+        long doneThisRun = done - skippedIds.sum();
+        Duration eta = null;
+        if (finishedAt > 0) {
+            eta = Duration.ZERO;
+        } else if (doneThisRun > 0) {
+            eta = Duration.ofMillis((long) ((double) (totalIds - done) * elapsed / doneThisRun));
+        }
+        return new BatchProgress(job, processed.sum(), failed.sum(), chunks.sum(),
+                processed.sum() * 1000.0 / elapsed, (double) done / totalIds, eta, elapsed, finishedAt > 0);
+    }
+}
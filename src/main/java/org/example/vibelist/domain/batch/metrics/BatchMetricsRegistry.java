@@ -0,0 +1,36 @@
+package org.example.vibelist.domain.batch.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 배치 작업별 최근 실행 지표 (BatchLoggingAspect가 로그/Micrometer로 내보냄)
+ */
+@Component
+public class BatchMetricsRegistry {
+
+    private final Map<String, BatchMetrics> metrics = new ConcurrentHashMap<>();
+
+    // 새 실행 시작 (같은 작업의 이전 실행 지표는 교체)
+    public BatchMetrics start(String job, long totalIds) {
+        BatchMetrics started = new BatchMetrics(job, totalIds);
+        metrics.put(job, started);
+        return started;
+    }
+
+    public Optional<BatchProgress> get(String job) {
+        return Optional.ofNullable(metrics.get(job)).map(BatchMetrics::snapshot);
+    }
+
+    public List<BatchProgress> snapshots() {
+        return metrics.values().stream()
+                .map(BatchMetrics::snapshot)
+                .sorted(Comparator.comparing(BatchProgress::job))
+                .toList();
+    }
+}
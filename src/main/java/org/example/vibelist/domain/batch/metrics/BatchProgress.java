@@ -0,0 +1,13 @@
+package org.example.vibelist.domain.batch.metrics;
+
+import java.time.Duration;
+
+/**
+ * 배치 진행 상황 스냅샷
+ * @param progress 처리한 id 구간 비율 (0 ~ 1)
+ * @param eta      남은 예상 시간 (처리 속도를 아직 모르면 null)
+ */
+public record BatchProgress(String job, long processed, long failed, long chunks,
+                            double itemsPerSecond, double progress, Duration eta,
+                            long elapsedMs, boolean finished) {
+}
@@ -1,85 +1,198 @@
 package org.example.vibelist.domain.batch.spotify.client;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.vibelist.domain.batch.spotify.dto.SpotifyTrackMetaDto;
+import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Spotify Web API client (client credentials)
+ * - 액세스 토큰은 만료 직전까지 캐시해서 재사용
+ * - 모든 API 호출은 SpotifyRateLimiter 허가를 받은 뒤 실행, 429 응답이면 Retry-After만큼 전체 호출을 멈추고 SpotifyRateLimitedException
+ * - API/토큰 주소는 설정으로 변경 가능 (로컬 stub 서버로 테스트)
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class SpotifyApiClient {
 
+    // GET /v1/tracks?ids= 한 번에 보낼 수 있는 최대 id 수
+    public static final int MAX_IDS_PER_REQUEST = 50;
+    // 만료 시각보다 이만큼 먼저 토큰을 갱신
+    private static final long TOKEN_EXPIRY_MARGIN_MS = 60_000;
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
 
     private final RestTemplate restTemplate = new RestTemplate();
+    private final ReentrantLock tokenLock = new ReentrantLock();
+    private final SpotifyRateLimiter rateLimiter;
+
     @Value("${spring.security.oauth2.client.registration.spotify.client-id}")
     private  String clientId;
     @Value("${spring.security.oauth2.client.registration.spotify.client-secret}")
     private  String clientSecret;
-
+    @Value("${spotify.api.base-url:https://api.spotify.com}")
+    private String apiBaseUrl;
+    @Value("${spotify.accounts.base-url:https://accounts.spotify.com}")
+    private String accountsBaseUrl;
+
+    private volatile CachedToken cachedToken;
+
+    /**
+     * 트랙 메타데이터 조회
+     * - 없는 트랙(404)이면 null
+     * - 429면 SpotifyRateLimitedException, 그 외 오류는 예외 그대로 (호출 측에서 재시도)
+     */
     public SpotifyTrackMetaDto getTrackMeta(String spotifyId) {
+        String body = get("/v1/tracks/" + spotifyId);
+        if (body == null) {
+            return null;
+        }
+        SpotifyTrackMetaDto dto = toTrackMeta(new JSONObject(body));
+        log.debug("title: {}, artist: {}, album: {}, durationMs: {}, explicit: {}, popularity: {}, imageUrl: {}",
+                dto.getTitle(), dto.getArtist(), dto.getAlbum(), dto.getDurationMs(), dto.isExplicit(), dto.getPopularity(), dto.getImageUrl());
+        return dto;
+    }
+
+    /**
+     * 여러 트랙 메타데이터 조회 (GET /v1/tracks?ids=, 50개씩 나눠 호출)
+     * - 응답 tracks 배열은 요청 id 순서와 같으므로 위치로 매칭 (relink된 트랙도 요청한 id로 반환)
+     * - 없는 트랙(null 항목)이나 파싱할 수 없는 항목은 결과에서 빠짐
+     * - 잘못된 id가 섞여 400이 나면 그 묶음만 한 곡씩 다시 조회
+     * - 429면 SpotifyRateLimitedException, 그 외 오류는 예외 그대로 (호출 측에서 재시도)
+     * @return 요청한 Spotify ID -> 메타데이터
+     */
+    public Map<String, SpotifyTrackMetaDto> getTrackMetas(List<String> spotifyIds) {
+        Map<String, SpotifyTrackMetaDto> result = new HashMap<>(spotifyIds.size() * 2);
+        for (int from = 0; from < spotifyIds.size(); from += MAX_IDS_PER_REQUEST) {
+            List<String> ids = spotifyIds.subList(from, Math.min(spotifyIds.size(), from + MAX_IDS_PER_REQUEST));
+            String body;
+            try {
+                body = get("/v1/tracks?ids=" + String.join(",", ids));
+            } catch (HttpClientErrorException.BadRequest e) {
+                log.warn("⚠️ 묶음 조회 400 - {}개 개별 조회로 전환: {}", ids.size(), e.getMessage());
+                getTrackMetasOneByOne(ids, result);
+                continue;
+            }
+            if (body == null) {
+                continue;
+            }
+            JSONArray tracks = new JSONObject(body).getJSONArray("tracks");
+            for (int i = 0; i < ids.size() && i < tracks.length(); i++) {
+                if (tracks.isNull(i)) {
+                    continue;
+                }
+                try {
+                    result.put(ids.get(i), toTrackMeta(tracks.getJSONObject(i)));
+                } catch (JSONException e) {
+                    log.warn("⚠️ 트랙 응답 파싱 실패 - Spotify ID: {} | {}", ids.get(i), e.getMessage());
+                }
+            }
+        }
+        return result;
+    }
+
+    private void getTrackMetasOneByOne(List<String> ids, Map<String, SpotifyTrackMetaDto> result) {
+        for (String id : ids) {
+            try {
+                SpotifyTrackMetaDto dto = getTrackMeta(id);
+                if (dto != null) {
+                    result.put(id, dto);
+                }
+            } catch (HttpClientErrorException.BadRequest | JSONException e) {
+                log.warn("⚠️ 잘못된 트랙 - Spotify ID: {} | {}", id, e.getMessage());
+            }
+        }
+    }
+
+    // GET 요청 (404면 null)
+    private String get(String path) {
+        rateLimiter.acquire();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(getAccessToken());
+        headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
         try {
-            String token = getAccessToken();
-
-            String trackUrl = "https://api.spotify.com/v1/tracks/" + spotifyId;
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setBearerAuth(token);
-            headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
-            HttpEntity<Void> entity = new HttpEntity<>(headers);
-
-            ResponseEntity<String> response = restTemplate.exchange(
-                    trackUrl, HttpMethod.GET, entity, String.class
-            );
-
-            JSONObject json = new JSONObject(response.getBody());
-
-            String title = json.getString("name");
-            String artist = json.getJSONArray("artists").getJSONObject(0).getString("name");
-            String album = json.getJSONObject("album").getString("name");
-            int durationMs = json.getInt("duration_ms");
-            boolean explicit = json.getBoolean("explicit");
-            int popularity = json.getInt("popularity");
-            String imageUrl = json.getJSONObject("album")
-                    .getJSONArray("images")
-                    .getJSONObject(0)
-                    .getString("url");
-
-            log.info("title: {}, artist: {}, album: {}, durationMs: {}, explicit: {}, popularity: {}, imageUrl: {}",
-                    title, artist, album, durationMs, explicit, popularity, imageUrl);
-
-            SpotifyTrackMetaDto dto = SpotifyTrackMetaDto.builder()
-                    .title(title)
-                    .artist(artist)
-                    .album(album)
-                    .durationMs(durationMs)
-                    .popularity(popularity)
-                    .explicit(explicit)
-                    .imageUrl(imageUrl)
-                    .build();
-
-            return dto;
-
-        } catch (Exception e) {
-            e.printStackTrace();
+            return restTemplate.exchange(apiBaseUrl + path, HttpMethod.GET, new HttpEntity<>(headers), String.class).getBody();
+        } catch (HttpClientErrorException.NotFound e) {
             return null;
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            Duration retryAfter = retryAfter(e.getResponseHeaders());
+            rateLimiter.pauseFor(retryAfter);
+            log.warn("⏸️ Spotify 요청 한도 초과 - {}초 동안 호출 중단", retryAfter.toSeconds());
+            throw new SpotifyRateLimitedException(retryAfter);
+        } catch (HttpClientErrorException.Unauthorized e) {
+            cachedToken = null; // 만료/폐기된 토큰 -> 다음 호출에서 새로 발급
+            throw e;
+        }
+    }
+
+    private static SpotifyTrackMetaDto toTrackMeta(JSONObject json) {
+        JSONObject album = json.getJSONObject("album");
+        return SpotifyTrackMetaDto.builder()
+                .title(json.getString("name"))
+                .artist(json.getJSONArray("artists").getJSONObject(0).getString("name"))
+                .album(album.getString("name"))
+                .durationMs(json.getInt("duration_ms"))
+                .popularity(json.getInt("popularity"))
+                .explicit(json.getBoolean("explicit"))
+                .imageUrl(album.getJSONArray("images").isEmpty()
+                        ? null
+                        : album.getJSONArray("images").getJSONObject(0).getString("url"))
+                .spotifyId(json.getString("id"))
+                .build();
+    }
+
+    private static Duration retryAfter(HttpHeaders headers) {
+        String value = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null) {
+            return DEFAULT_RETRY_AFTER;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(1, Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            return DEFAULT_RETRY_AFTER;
         }
     }
 
+    /**
+     * client credentials 액세스 토큰 (캐시된 토큰이 만료 전이면 재사용)
+     */
     public String getAccessToken() {
-        String url = "https://accounts.spotify.com/api/token";
+        CachedToken token = cachedToken;
+        if (token != null && token.isValid()) {
+            return token.value();
+        }
+        tokenLock.lock();
+        try {
+            token = cachedToken;
+            if (token == null || !token.isValid()) {
+                token = requestAccessToken();
+                cachedToken = token;
+            }
+            return token.value();
+        } finally {
+            tokenLock.unlock();
+        }
+    }
+
+    private CachedToken requestAccessToken() {
+        String url = accountsBaseUrl + "/api/token";
 
         // Authorization 헤더 설정 (Base64 인코딩)
         String auth = clientId + ":" + clientSecret;
@@ -98,13 +211,22 @@ public class SpotifyApiClient {
         ResponseEntity<SpotifyApiClient.SpotifyTokenResponse> response = restTemplate.postForEntity(
                 url, request, SpotifyApiClient.SpotifyTokenResponse.class);
 
-        return response.getBody().getAccess_token();
+        SpotifyTokenResponse body = response.getBody();
+        long expiresAt = System.currentTimeMillis() + body.getExpires_in() * 1000L - TOKEN_EXPIRY_MARGIN_MS;
+        log.info("🔑 Spotify 액세스 토큰 발급 (유효 {}초)", body.getExpires_in());
+        return new CachedToken(body.getAccess_token(), expiresAt);
     }
 
+    private record CachedToken(String value, long refreshAtMillis) {
+        boolean isValid() {
+            return System.currentTimeMillis() < refreshAtMillis;
+        }
+    }
 
     // 내부 클래스: 토큰 응답 파싱용
     static class SpotifyTokenResponse {
         private String access_token;
+        private long expires_in = 3600;
 
         public String getAccess_token() {
             return access_token;
@@ -113,6 +235,14 @@ public class SpotifyApiClient {
         public void setAccess_token(String access_token) {
             this.access_token = access_token;
         }
+
+        public long getExpires_in() {
+            return expires_in;
+        }
+
+        public void setExpires_in(long expires_in) {
+            this.expires_in = expires_in;
+        }
     }
 
 
@@ -0,0 +1,23 @@
+package org.example.vibelist.domain.batch.spotify.client;
+
+import org.example.vibelist.global.response.GlobalException;
+import org.example.vibelist.global.response.ResponseCode;
+
+import java.time.Duration;
+
+/**
+ * Spotify API 429 응답 (Retry-After 동안 요청 중단 필요)
+ */
+public class SpotifyRateLimitedException extends GlobalException {
+
+    private final Duration retryAfter;
+
+    public SpotifyRateLimitedException(Duration retryAfter) {
+        super(ResponseCode.SPOTIFY_RATE_LIMITED, "Spotify API 요청 한도 초과: " + retryAfter.toSeconds() + "초 후 재시도");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.vibelist.domain.batch.spotify.client;
+
+import org.example.vibelist.global.response.GlobalException;
+import org.example.vibelist.global.response.ResponseCode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Spotify API 호출 공용 토큰 버킷 (모든 worker 스레드가 공유)
+ * - 초당 permits-per-second개씩 채워지고 최대 burst개까지 모아둘 수 있음
+ * - 429 응답을 받으면 Retry-After 동안 모든 호출을 멈춤 (pauseFor)
+ * - 대기(sleep)는 lock 밖에서 함 (virtual thread가 carrier를 붙잡지 않도록 synchronized 대신 ReentrantLock)
+ */
+@Component
+public class SpotifyRateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongSupplier nanoClock;
+    private final double permitsPerSecond;
+    private final double burst;
+
+    private double tokens;
+    private long lastRefill;
+    private long pausedUntil;
+
+    @Autowired
+    public SpotifyRateLimiter(@Value("${spotify.api.permits-per-second:10}") double permitsPerSecond,
+                              @Value("${spotify.api.burst:10}") double burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    SpotifyRateLimiter(double permitsPerSecond, double burst, LongSupplier nanoClock) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = Math.max(1, burst);
+        this.nanoClock = nanoClock;
+        this.tokens = this.burst;
+        this.lastRefill = nanoClock.getAsLong();
+        this.pausedUntil = lastRefill;
+    }
+
+    /**
+     * 호출 허가를 받을 때까지 대기
+     */
+    public void acquire() {
+        try {
+            long wait;
+            while ((wait = reserve()) > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GlobalException(ResponseCode.BATCH_FAILED, "Spotify API 호출 대기 중 중단");
+        }
+    }
+
+    /**
+     * 429 Retry-After 반영: 지금부터 retryAfter 동안 모든 호출 중단, 모아둔 토큰도 버림
+     */
+    public void pauseFor(Duration retryAfter) {
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            pausedUntil = Math.max(pausedUntil, now + retryAfter.toNanos());
+            tokens = 0;
+            lastRefill = Math.max(lastRefill, pausedUntil);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 토큰 하나를 가져가면 0, 아니면 다시 시도하기까지 기다릴 시간(ns)
+    long reserve() {
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            if (now < pausedUntil) {
+                return pausedUntil - now;
+            }
+            if (now > lastRefill) {
+                tokens = Math.min(burst, tokens + (now - lastRefill) * permitsPerSecond / NANOS_PER_SECOND);
+                lastRefill = now;
+            }
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - tokens) * NANOS_PER_SECOND / permitsPerSecond));
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.vibelist.domain.batch.spotify.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.vibelist.domain.batch.audiofeature.entity.AudioFeature;
+import org.example.vibelist.domain.batch.spotify.client.SpotifyApiClient;
+import org.example.vibelist.domain.batch.spotify.client.SpotifyRateLimitedException;
+import org.example.vibelist.domain.batch.spotify.dto.SpotifyTrackMetaDto;
+import org.example.vibelist.global.response.GlobalException;
+import org.example.vibelist.global.response.ResponseCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * AudioFeature 목록의 Spotify 메타데이터를 virtual thread로 동시에 조회
+ * - Spotify ID를 50개씩 묶어 GET /v1/tracks?ids= 한 번으로 조회 (같은 ID를 가진 AudioFeature는 한 번만 요청)
+ * - 동시 요청 수는 batch.track.concurrency로 제한, 실제 호출 속도는 SpotifyRateLimiter(토큰 버킷)가 결정
+ * - 429는 limiter가 Retry-After만큼 멈춘 뒤 재시도 (재시도 횟수에 포함하지 않음, 최대 MAX_RATE_LIMITED회)
+ * - 그 외 오류는 묶음 단위로 MAX_RETRIES회까지 지수 백오프 후 재시도
+ * - 재시도를 다 써도 실패하면 예외 (일시 장애로 묶음 전체가 실패 항목으로 영구 기록되지 않도록, 작업은 마지막 커밋 지점에서 멈춤)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SpotifyTrackFetcher {
+
+    private static final int MAX_RETRIES = 3; // 재시도 횟수
+    private static final int MAX_RATE_LIMITED = 10; // 429 연속 허용 횟수
+    private static final long RETRY_BASE_DELAY_MS = 500; // 재시도 대기 시작값 (회차마다 2배)
+
+    private final SpotifyApiClient spotifyApiClient;
+
+    @Value("${batch.track.concurrency:16}")
+    private int concurrency;
+
+    /**
+     * @return AudioFeature ID -> 조회된 메타데이터 (Spotify에 없거나 응답을 해석할 수 없는 트랙은 빠짐)
+     * @throws GlobalException 재시도 후에도 묶음 조회가 실패한 경우
+     */
+    public Map<Long, SpotifyTrackMetaDto> fetch(List<AudioFeature> features) {
+        Map<String, List<AudioFeature>> bySpotifyId = new LinkedHashMap<>();
+        for (AudioFeature feature : features) {
+            if (feature.getSpotifyId() == null) continue;
+            bySpotifyId.computeIfAbsent(feature.getSpotifyId(), id -> new ArrayList<>()).add(feature);
+        }
+        List<String> spotifyIds = new ArrayList<>(bySpotifyId.keySet());
+
+        Map<Long, SpotifyTrackMetaDto> result = new ConcurrentHashMap<>();
+        Semaphore permits = new Semaphore(concurrency);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int from = 0; from < spotifyIds.size(); from += SpotifyApiClient.MAX_IDS_PER_REQUEST) {
+                List<String> ids = spotifyIds.subList(from, Math.min(spotifyIds.size(), from + SpotifyApiClient.MAX_IDS_PER_REQUEST));
+                executor.submit(() -> {
+                    permits.acquireUninterruptibly();
+                    try {
+                        if (failure.get() != null) {
+                            return; // 다른 묶음이 이미 실패 -> 청크 전체를 다시 처리하므로 더 조회하지 않음
+                        }
+                        Map<String, SpotifyTrackMetaDto> metas = fetchWithRetry(ids);
+                        for (String id : ids) {
+                            SpotifyTrackMetaDto dto = metas.get(id);
+                            if (dto == null) {
+                                log.warn("❓ 조회되지 않은 트랙 - SpotifyID: {}", id);
+                                continue;
+                            }
+                            for (AudioFeature feature : bySpotifyId.get(id)) {
+                                result.put(feature.getId(), dto);
+                            }
+                        }
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        } // close(): 모든 작업 완료까지 대기
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        return result;
+    }
+
+    private Map<String, SpotifyTrackMetaDto> fetchWithRetry(List<String> ids) {
+        int attempt = 0;
+        int rateLimited = 0;
+        while (true) {
+            try {
+                return spotifyApiClient.getTrackMetas(ids);
+            } catch (SpotifyRateLimitedException e) {
+                // limiter가 이미 Retry-After만큼 멈춰 있으므로 바로 다시 줄을 섬
+                if (++rateLimited > MAX_RATE_LIMITED) {
+                    log.warn("❗ 요청 한도 초과 반복 - {}곡 묶음 조회 중단 (첫 ID: {})", ids.size(), ids.get(0));
+                    throw e;
+                }
+            } catch (Exception e) {
+                log.warn("❌ [실패 {}회차] {}곡 묶음 (첫 ID: {}) | {}", attempt + 1, ids.size(), ids.get(0), e.getMessage());
+                log.debug("🔍 예외", e);
+                if (++attempt >= MAX_RETRIES) {
+                    log.warn("❗ 최종 실패 - {}곡 묶음 (첫 ID: {})", ids.size(), ids.get(0));
+                    throw new GlobalException(ResponseCode.BATCH_FAILED,
+                            "Spotify 트랙 조회 실패 (첫 ID: " + ids.get(0) + "): " + e.getMessage());
+                }
+                try {
+                    Thread.sleep(RETRY_BASE_DELAY_MS << (attempt - 1));
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new GlobalException(ResponseCode.BATCH_FAILED, "Spotify 트랙 조회 중단됨");
+                }
+            }
+        }
+    }
+}
@@ -2,30 +2,29 @@ package org.example.vibelist.domain.batch.spotify.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.vibelist.domain.batch.checkpoint.repository.BatchFailedItemRepository;
+import org.example.vibelist.domain.batch.chunk.ChunkJob;
+import org.example.vibelist.domain.batch.chunk.ChunkJobRunner;
+import org.example.vibelist.domain.batch.chunk.ChunkOutput;
+import org.example.vibelist.domain.batch.chunk.ChunkReader;
 import org.example.vibelist.domain.batch.service.BatchService;
 import org.example.vibelist.domain.playlist.repository.TrackRepository;
 import org.example.vibelist.domain.batch.audiofeature.entity.AudioFeature;
 import org.example.vibelist.domain.batch.audiofeature.repository.AudioFeatureRepository;
+import org.example.vibelist.domain.batch.copy.CopyLoadResult;
+import org.example.vibelist.domain.batch.copy.PgCopyLoader;
 import org.example.vibelist.domain.playlist.entity.Track;
-import org.example.vibelist.domain.batch.spotify.client.SpotifyApiClient;
 import org.example.vibelist.domain.batch.spotify.dto.SpotifyTrackMetaDto;
-import org.example.vibelist.global.response.ResponseCode;
-import org.example.vibelist.global.response.GlobalException;
-
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
+
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -34,124 +33,161 @@ public class TrackBatchService implements BatchService {
 
     private final TrackRepository trackRepository;
     private final AudioFeatureRepository audioFeatureRepository;
-    private final SpotifyApiClient spotifyApiClient;
+    private final SpotifyTrackFetcher spotifyTrackFetcher;
+    private final PgCopyLoader copyLoader;
+    private final ChunkJobRunner chunkJobRunner;
+    private final BatchFailedItemRepository failedItemRepository;
+
+    /**
+     * Track 저장 방식
+     * - JPA: 트랙마다 save (기본값)
+     * - COPY: 청크 단위로 모아 PostgreSQL COPY BINARY로 한 번에 적재
+     */
+    public enum WriteMode {
+        JPA, COPY
+    }
+
+    @Value("${batch.track.write-mode:JPA}")
+    private WriteMode writeMode;
+
+    private static final String TRACK_TABLE = "track";
+    private static final String TRACK_COLUMNS =
+            "title, artist, album, popularity, duration_ms, explicit, image_url, spotify_id, audio_feature_id";
+
+    private static final String JOB_NAME = "track_enrich";
+
+    @Value("${batch.track.chunk-size:500}")
+    private int chunkSize;
+
+    // id 공간을 나누는 stripe 폭 (체크포인트 단위)
+    @Value("${batch.track.stripe-size:50000}")
+    private long stripeSize;
+
+    // 동시에 처리할 stripe 수 (Spotify 호출량은 SpotifyRateLimiter가 공유 제한)
+    @Value("${batch.track.partitions:1}")
+    private int partitions;
+
+    // 여러 서버로 나눠 실행할 때 이 서버 번호 / 전체 서버 수
+    @Value("${batch.track.node-index:0}")
+    private int nodeIndex;
 
-    private static final int MAX_RETRIES = 3; // 재시도 횟수
-    private static final int RETRY_DELAY_MS = 3000; // API 요청 제한 시 딜레이 시간
-    private static final String FAILED_TRACKS_FILE = "spotify_failed_tracks.log"; // 실패한 트랙 -> 따로 로그 파일 저장
+    @Value("${batch.track.node-count:1}")
+    private int nodeCount;
 
     /**
      * AudioFeature 엔티티 중 Track이 없는 데이터를 찾아,
      * Spotify API로 메타데이터를 조회하여 Track으로 저장하는 배치 작업을 수행한다.
-     * 일정 개수마다 flush를 호출하여 메모리 사용을 최적화하며,
-     * 실패한 ID는 로그 파일로 별도 기록한다.
+     * ChunkJobRunner로 실행:
+     * - reader: id 범위 안에서 Track 없는 AudioFeature를 chunk-size개씩 (이전 실행에서 실패한 ID는 processor에서 건너뜀)
+     * - processor: SpotifyTrackFetcher로 동시에 조회 (Spotify ID 50개당 API 호출 1번), Spotify에 없거나 해석할 수 없는 ID만 실패로 반환
+     *   (조회 자체가 재시도 후에도 실패하면 예외 -> 작업은 마지막 커밋 지점에서 멈추고 다음 실행에서 그 청크부터 다시)
+     * - writer: 청크 트랜잭션 안에서 JPA 또는 COPY로 저장
+     * 청크마다 커밋 + batch_checkpoint에 진행 위치를 기록하므로 중간에 멈춰도 이어서 실행 가능하고,
+     * 실패한 ID는 batch_failed_item에 기록한다.
      */
     @Override
-    @Transactional
     public void executeBatch() {
-        int count = 0;
-        Set<Long> failedIds = loadFailedTrackIds();
-        Page<AudioFeature> afPage;
-        do {
-            Pageable pageable = PageRequest.of(0, 1000, Sort.by("id").ascending());
-            afPage = audioFeatureRepository.findByTrackIsNull(pageable);
-            log.info("🔍 AudioFeature 조회 결과: {}건", afPage.getTotalElements());
-
-            for (AudioFeature feature : afPage.getContent()) {
-                if (failedIds.contains(feature.getId())) {
-                    log.info("⏭️ [건너뜀] 이전 실패: {}", feature.getId());
-                    continue;
-                }
-                log.info("🚀 처리 시작 - AudioFeature ID: {}, SpotifyID: {}", feature.getId(), feature.getSpotifyId());
-
-                boolean success = processTrackWithRetry(feature);
-                if (!success) {
-                    recordFailedTrack(feature.getId());
-                }
-                if (++count % 1000 == 0) {
-                    trackRepository.flush();
-                    log.info("💾 {}개 단위 flush 완료", count);
-                }
-            }
-        } while (!afPage.isLast());
+        Set<Long> failedIds = new HashSet<>(failedItemRepository.findItemIdsByJobName(JOB_NAME));
+        if (!failedIds.isEmpty()) {
+            log.info("⏭️ 이전 실행에서 실패한 {}건은 건너뜀", failedIds.size());
+        }
+        chunkJobRunner.run(ChunkJob.<AudioFeature, Track>builder()
+                .name(JOB_NAME)
+                .reader(new ChunkReader<>() {
+                    @Override
+                    public List<AudioFeature> read(long afterId, long toId, int limit) {
+                        return audioFeatureRepository.findByTrackIsNullAndIdGreaterThanAndIdLessThanEqual(
+                                afterId, toId, PageRequest.of(0, limit, Sort.by("id").ascending()));
+                    }
+
+                    @Override
+                    public long idOf(AudioFeature item) {
+                        return item.getId();
+                    }
+                })
+                .processor(chunk -> fetchTracks(chunk, failedIds))
+                .writer(this::saveTracks)
+                .minId(audioFeatureRepository.findMinId())
+                .maxId(audioFeatureRepository.findMaxId())
+                .chunkSize(chunkSize)
+                .stripeSize(stripeSize)
+                .partitions(partitions)
+                .nodeIndex(nodeIndex)
+                .nodeCount(nodeCount)
+                .build());
     }
 
-    /**
-     * Spotify API를 호출하여 트랙 정보를 조회하고 저장한다.
-     * 최대 3회까지 재시도하며, 성공 시 true를 반환하고 실패 시 false를 반환한다.
-     */
-    private boolean processTrackWithRetry(AudioFeature feature) {
-        for (int attempt = 1; attempt <= MAX_RETRIES; attempt++) {
-            try {
-                log.info("🎧 [시도 {}] Spotify ID: {}", attempt, feature.getSpotifyId());
-                SpotifyTrackMetaDto dto = spotifyApiClient.getTrackMeta(feature.getSpotifyId());
-                log.info("📥 수신된 DTO: {}", dto);
-
-                Track track = Track.builder()
-                        .title(dto.getTitle())
-                        .artist(dto.getArtist())
-                        .album(dto.getAlbum())
-                        .durationMs(dto.getDurationMs())
-                        .explicit(dto.isExplicit())
-                        .popularity(dto.getPopularity())
-                        .imageUrl(dto.getImageUrl())
-                        .spotifyId(dto.getSpotifyId())
-                        .audioFeature(feature)
-                        .build();
-
-                feature.setTrack(track);
-
-                log.info("🎧 트랙 정보: title={}, artist={}, album={}", dto.getTitle(), dto.getArtist(), dto.getAlbum());
-                trackRepository.save(track);
-                log.info("💾 저장된 Track: {}", track);
-                log.info("✅ [성공] {} - {}", dto.getTitle(), dto.getArtist());
-                return true;
-
-            } catch (Exception e) {
-                log.warn("❌ [실패 {}회차] Spotify ID: {} | {}", attempt, feature.getSpotifyId(), e.getMessage());
-                log.debug("🔍 예외", e);
+    // 청크의 Spotify 메타데이터 조회 -> Track (트랜잭션 밖)
+    private ChunkOutput<Track> fetchTracks(List<AudioFeature> chunk, Set<Long> skipIds) {
+        List<AudioFeature> targets = new ArrayList<>(chunk.size());
+        for (AudioFeature feature : chunk) {
+            if (skipIds.contains(feature.getId())) {
+                log.debug("⏭️ [건너뜀] 이전 실패: {}", feature.getId());
+            } else {
+                targets.add(feature);
             }
+        }
 
-            try {
-                Thread.sleep(RETRY_DELAY_MS);
-            } catch (InterruptedException ignored) {}
+        Map<Long, SpotifyTrackMetaDto> metas = spotifyTrackFetcher.fetch(targets);
+        List<Track> tracks = new ArrayList<>(metas.size());
+        List<Long> failed = new ArrayList<>();
+        for (AudioFeature feature : targets) {
+            SpotifyTrackMetaDto dto = metas.get(feature.getId());
+            if (dto == null) {
+                failed.add(feature.getId());
+            } else {
+                tracks.add(toTrack(dto, feature));
+            }
         }
-        log.warn("❗ 최종 실패 - AudioFeature ID: {}", feature.getId());
-        return false;
+        return new ChunkOutput<>(tracks, failed);
     }
 
-    /**
-     * Spotify API 호출 실패한 AudioFeature ID를 로그 파일에 기록한다.
-     */
-    private void recordFailedTrack(Long trackId) {
-        try {
-            Files.write(Paths.get(FAILED_TRACKS_FILE),
-                    (trackId + System.lineSeparator()).getBytes(),
-                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
-        } catch (IOException e) {
-            log.error("🚨 실패 로그 기록 오류: {}", e.getMessage());
+    private Track toTrack(SpotifyTrackMetaDto dto, AudioFeature feature) {
+        return Track.builder()
+                .title(dto.getTitle())
+                .artist(dto.getArtist())
+                .album(dto.getAlbum())
+                .durationMs(dto.getDurationMs())
+                .explicit(dto.isExplicit())
+                .popularity(dto.getPopularity())
+                .imageUrl(dto.getImageUrl())
+                .spotifyId(dto.getSpotifyId() != null ? dto.getSpotifyId() : feature.getSpotifyId())
+                .audioFeature(feature)
+                .build();
+    }
+
+    // 청크 트랜잭션 안에서 호출 (ChunkWriter)
+    private void saveTracks(List<Track> tracks) {
+        if (writeMode == WriteMode.COPY) {
+            copyTracks(tracks);
+            return;
+        }
+        for (Track track : tracks) {
+            // 조회는 트랜잭션 밖에서 했으므로 현재 영속성 컨텍스트의 참조로 연결
+            track.setAudioFeature(audioFeatureRepository.getReferenceById(track.getAudioFeature().getId()));
         }
+        trackRepository.saveAll(tracks);
     }
 
     /**
-     * 실패 로그 파일로부터 AudioFeature ID 목록을 로드한다.
-     * 파일이 없거나 읽기에 실패하면 빈 Set을 반환한다.
+     * COPY 모드: 청크의 Track을 트랜잭션 커넥션으로 COPY BINARY 적재
+     * (컬럼 타입: varchar x 3, int4 x 2, bool, varchar x 2, int8)
      */
-    private Set<Long> loadFailedTrackIds() {
-        Set<Long> ids = new HashSet<>();
-        Path path = Paths.get(FAILED_TRACKS_FILE);
-        if (Files.exists(path)) {
-            try {
-                List<String> lines = Files.readAllLines(path);
-                for (String line : lines) {
-                    try {
-                        ids.add(Long.parseLong(line.trim()));
-                    } catch (NumberFormatException ignored) {}
-                }
-            } catch (IOException e) {
-                log.error("⚠️ 실패 로그 로딩 오류: {}", e.getMessage());
+    private void copyTracks(List<Track> tracks) {
+        CopyLoadResult result = copyLoader.copyBinary(TRACK_TABLE, TRACK_COLUMNS, out -> {
+            for (Track track : tracks) {
+                out.startRow(9)
+                        .writeText(track.getTitle())
+                        .writeText(track.getArtist())
+                        .writeText(track.getAlbum())
+                        .writeInt(track.getPopularity())
+                        .writeInt(track.getDurationMs())
+                        .writeBoolean(track.isExplicit())
+                        .writeText(track.getImageUrl())
+                        .writeText(track.getSpotifyId())
+                        .writeLong(track.getAudioFeature().getId());
             }
-        }
-        return ids;
+        });
+        log.info("💾 Track COPY 적재: {}행, {}ms, {}행/초", result.rows(), result.elapsedMs(), result.rowsPerSecond());
     }
 }
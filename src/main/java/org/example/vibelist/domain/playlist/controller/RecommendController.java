@@ -5,7 +5,9 @@ import org.example.vibelist.domain.playlist.dto.RecommendRqDto;
 import org.example.vibelist.domain.playlist.dto.TrackRsDto;
 import org.example.vibelist.domain.playlist.service.RecommendService;
 import org.example.vibelist.global.aop.UserActivityLog;
+import org.example.vibelist.global.security.core.CustomUserDetails;
 import org.springframework.http.*;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,6 +16,7 @@ import org.springframework.validation.annotation.Validated;
 import jakarta.validation.Valid;
 
 import org.example.vibelist.global.response.RsData;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -32,9 +35,13 @@ public class RecommendController {
             description = "사용자의 감정 정보를 바탕으로 트랙을 추천합니다. valence/energy 직접 입력하거나 자연어 감정 설명을 입력할 수 있습니다. (둘 중 하나만 입력해도 추천이 동작합니다.)"
     )
     @UserActivityLog(action = "RECOMMEND_PLAYLIST")
-    public ResponseEntity<RsData<?>> recommend(@RequestBody @Valid RecommendRqDto request) {
-        RsData<?> result = recommendService.recommend(request);
-        return ResponseEntity.status(result.isSuccess() ? 200 : 400).body(result);
+    public Mono<ResponseEntity<RsData<?>>> recommend(@RequestBody @Valid RecommendRqDto request,
+                                                     @AuthenticationPrincipal CustomUserDetails userDetail) {
+        // 로그인 사용자는 최근 추천 곡을 제외하고 추천 (비로그인은 제외 없음)
+        Long userId = userDetail != null ? userDetail.getId() : null;
+        // Mono 반환 -> 비동기 처리 (LLM 응답 대기 중 Tomcat 워커 스레드 반환)
+        return recommendService.recommend(request, userId)
+                .<ResponseEntity<RsData<?>>>map(result -> ResponseEntity.status(result.isSuccess() ? 200 : 400).body(result));
     }
 
 }
@@ -2,8 +2,11 @@ package org.example.vibelist.domain.playlist.dto;
 
 import lombok.*;
 import org.example.vibelist.domain.playlist.emotion.type.EmotionModeType;
+import org.example.vibelist.domain.playlist.knn.KnnBackend;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.util.List;
+
 @Getter
 @Setter
 @Builder
@@ -20,4 +23,8 @@ public class RecommendRqDto {
     private Double userEnergy;
     @Schema(description = "추천 모드", example = "DEFAULT", required = false)
     private EmotionModeType mode;
+    @Schema(description = "좌표 기반 최근접 이웃 추천 방식 (SCAN: 인메모리 스캔, ES: dense_vector kNN). 없으면 감정 구간 기반 추천", example = "ES", required = false)
+    private KnnBackend knn;
+    @Schema(description = "장르 필터 (하나라도 포함된 곡만 추천, 대소문자 무시). 없으면 전체 장르", example = "[\"k-pop\", \"dance pop\"]", required = false)
+    private List<String> genres;
 }
@@ -0,0 +1,198 @@
+package org.example.vibelist.domain.playlist.emotion.lexicon;
+
+import lombok.RequiredArgsConstructor;
+import org.example.vibelist.domain.playlist.emotion.llm.EmotionTextNormalizer;
+import org.example.vibelist.domain.playlist.emotion.profile.EmotionAnalysis;
+import org.example.vibelist.domain.playlist.emotion.profile.EmotionFeatureProfile;
+import org.example.vibelist.domain.playlist.emotion.profile.EmotionProfileManager;
+import org.example.vibelist.domain.playlist.emotion.type.EmotionType;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 키워드 사전 기반 감정 분류기 (LLM 우회용)
+ * - 정규화된 토큰을 한국어/영어 감정 어휘와 매칭해 EmotionType 점수 계산
+ * - 한 감정만 매칭되고 부정어/군더더기 토큰이 적은 경우에만 확신 있는 결과로 보고 바로 응답
+ * - 그 외(여러 감정, 부정 표현, 긴 설명)는 LLM으로 넘김
+ * - 검색 범위는 EmotionProfileManager의 valence/energy 범위를 그대로 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class EmotionLexiconClassifier {
+
+    // 감정 어휘 외 토큰이 이보다 많으면 설명이 복잡하다고 보고 LLM으로 넘김
+    private static final int MAX_UNMATCHED_TOKENS = 2;
+
+    // 영어: 토큰 완전 일치
+    private static final Map<String, EmotionType> ENGLISH_WORDS = Map.ofEntries(
+            Map.entry("depressed", EmotionType.DEPRESSED), Map.entry("depressing", EmotionType.DEPRESSED),
+            Map.entry("hopeless", EmotionType.DEPRESSED), Map.entry("miserable", EmotionType.DEPRESSED),
+            Map.entry("gloomy", EmotionType.DEPRESSED),
+            Map.entry("sleepy", EmotionType.SLEEPY), Map.entry("tired", EmotionType.SLEEPY),
+            Map.entry("exhausted", EmotionType.SLEEPY), Map.entry("drowsy", EmotionType.SLEEPY),
+            Map.entry("tense", EmotionType.TENSE), Map.entry("angry", EmotionType.TENSE),
+            Map.entry("stressed", EmotionType.TENSE), Map.entry("annoyed", EmotionType.TENSE),
+            Map.entry("irritated", EmotionType.TENSE), Map.entry("mad", EmotionType.TENSE),
+            Map.entry("sad", EmotionType.SAD), Map.entry("lonely", EmotionType.SAD),
+            Map.entry("blue", EmotionType.SAD), Map.entry("heartbroken", EmotionType.SAD),
+            Map.entry("upset", EmotionType.SAD),
+            Map.entry("okay", EmotionType.NEUTRAL), Map.entry("ok", EmotionType.NEUTRAL),
+            Map.entry("fine", EmotionType.NEUTRAL), Map.entry("normal", EmotionType.NEUTRAL),
+            Map.entry("meh", EmotionType.NEUTRAL),
+            Map.entry("scared", EmotionType.FEAR), Map.entry("afraid", EmotionType.FEAR),
+            Map.entry("anxious", EmotionType.FEAR), Map.entry("nervous", EmotionType.FEAR),
+            Map.entry("worried", EmotionType.FEAR), Map.entry("fear", EmotionType.FEAR),
+            Map.entry("calm", EmotionType.CALM), Map.entry("relaxed", EmotionType.CALM),
+            Map.entry("peaceful", EmotionType.CALM), Map.entry("chill", EmotionType.CALM),
+            Map.entry("cozy", EmotionType.CALM),
+            Map.entry("happy", EmotionType.JOY), Map.entry("glad", EmotionType.JOY),
+            Map.entry("joyful", EmotionType.JOY), Map.entry("good", EmotionType.JOY),
+            Map.entry("great", EmotionType.JOY), Map.entry("cheerful", EmotionType.JOY),
+            Map.entry("excited", EmotionType.EXCITED), Map.entry("hyped", EmotionType.EXCITED),
+            Map.entry("pumped", EmotionType.EXCITED), Map.entry("energetic", EmotionType.EXCITED),
+            Map.entry("thrilled", EmotionType.EXCITED)
+    );
+
+    // 한국어: 활용형이 다양하므로 어간 접두어 매칭
+    private static final List<Map.Entry<String, EmotionType>> KOREAN_STEMS = List.of(
+            Map.entry("우울", EmotionType.DEPRESSED), Map.entry("절망", EmotionType.DEPRESSED),
+            Map.entry("무기력", EmotionType.DEPRESSED),
+            Map.entry("졸려", EmotionType.SLEEPY), Map.entry("졸리", EmotionType.SLEEPY),
+            Map.entry("피곤", EmotionType.SLEEPY), Map.entry("나른", EmotionType.SLEEPY),
+            Map.entry("짜증", EmotionType.TENSE), Map.entry("화나", EmotionType.TENSE),
+            Map.entry("화났", EmotionType.TENSE), Map.entry("스트레스", EmotionType.TENSE),
+            Map.entry("빡쳐", EmotionType.TENSE),
+            Map.entry("슬퍼", EmotionType.SAD), Map.entry("슬프", EmotionType.SAD),
+            Map.entry("외로", EmotionType.SAD), Map.entry("서글", EmotionType.SAD),
+            Map.entry("눈물", EmotionType.SAD),
+            Map.entry("그저그래", EmotionType.NEUTRAL), Map.entry("평범", EmotionType.NEUTRAL),
+            Map.entry("무난", EmotionType.NEUTRAL), Map.entry("보통", EmotionType.NEUTRAL),
+            Map.entry("불안", EmotionType.FEAR), Map.entry("무서", EmotionType.FEAR),
+            Map.entry("두려", EmotionType.FEAR), Map.entry("걱정", EmotionType.FEAR),
+            Map.entry("긴장", EmotionType.FEAR),
+            Map.entry("평온", EmotionType.CALM), Map.entry("편안", EmotionType.CALM),
+            Map.entry("차분", EmotionType.CALM), Map.entry("잔잔", EmotionType.CALM),
+            Map.entry("여유", EmotionType.CALM),
+            Map.entry("행복", EmotionType.JOY), Map.entry("기뻐", EmotionType.JOY),
+            Map.entry("기쁘", EmotionType.JOY), Map.entry("즐거", EmotionType.JOY),
+            Map.entry("신나", EmotionType.EXCITED), Map.entry("신난", EmotionType.EXCITED),
+            Map.entry("설레", EmotionType.EXCITED), Map.entry("흥분", EmotionType.EXCITED),
+            Map.entry("들떠", EmotionType.EXCITED)
+    );
+
+    // 한국어 중 접두어로 매칭하면 다른 뜻의 단어까지 걸리는 어휘는 활용형 완전 일치만 허용
+    // - "좋아" -> "좋아하는"(선호), "화가"(조사 제거 후 "화") -> 화가(畫家)
+    private static final Map<String, EmotionType> KOREAN_EXACT_FORMS = Map.ofEntries(
+            Map.entry("좋아", EmotionType.JOY), Map.entry("좋아서", EmotionType.JOY),
+            Map.entry("좋다", EmotionType.JOY), Map.entry("좋네", EmotionType.JOY),
+            Map.entry("좋음", EmotionType.JOY), Map.entry("화남", EmotionType.TENSE)
+    );
+
+    // 부정 표현이 있으면 의미가 뒤집힐 수 있으므로 LLM으로 넘김
+    private static final Set<String> NEGATIONS = Set.of("not", "no", "never", "dont", "cant", "isnt", "안", "못");
+    private static final List<String> NEGATION_STEMS = List.of("않", "없");
+
+    private final EmotionProfileManager profileManager;
+
+    /**
+     * 확신 있는 입력만 분석 결과 반환, 애매하면 empty (-> LLM 호출)
+     */
+    public Optional<EmotionAnalysis> classify(String userText) {
+        String[] tokens = tokenize(userText);
+        int[] scores = new int[EmotionType.values().length];
+        int unmatched = 0;
+
+        for (String token : tokens) {
+            if (isNegation(token)) {
+                return Optional.empty();
+            }
+            EmotionType matched = match(token);
+            if (matched == null) {
+                unmatched++;
+            } else {
+                scores[matched.ordinal()]++;
+            }
+        }
+
+        EmotionType top = null;
+        for (EmotionType type : EmotionType.values()) {
+            if (scores[type.ordinal()] == 0) continue;
+            if (top != null) {
+                return Optional.empty(); // 서로 다른 감정이 섞여 있음
+            }
+            top = type;
+        }
+        if (top == null || unmatched > MAX_UNMATCHED_TOKENS) {
+            return Optional.empty();
+        }
+        return Optional.of(toAnalysis(top));
+    }
+
+    /**
+     * LLM을 쓸 수 없을 때 사용할 최선 추정 (가장 많이 매칭된 감정, 없으면 NEUTRAL)
+     */
+    public EmotionType bestGuess(String userText) {
+        int[] scores = new int[EmotionType.values().length];
+        for (String token : tokenize(userText)) {
+            EmotionType matched = match(token);
+            if (matched != null) {
+                scores[matched.ordinal()]++;
+            }
+        }
+        EmotionType best = EmotionType.NEUTRAL;
+        int bestScore = 0;
+        for (EmotionType type : EmotionType.values()) {
+            if (scores[type.ordinal()] > bestScore) {
+                best = type;
+                bestScore = scores[type.ordinal()];
+            }
+        }
+        return best;
+    }
+
+    private static String[] tokenize(String userText) {
+        String normalized = EmotionTextNormalizer.normalize(userText);
+        return normalized.isEmpty() ? new String[0] : normalized.split(" ");
+    }
+
+    private static EmotionType match(String token) {
+        EmotionType english = ENGLISH_WORDS.get(token);
+        if (english != null) {
+            return english;
+        }
+        EmotionType exact = KOREAN_EXACT_FORMS.get(token);
+        if (exact != null) {
+            return exact;
+        }
+        for (Map.Entry<String, EmotionType> stem : KOREAN_STEMS) {
+            if (token.startsWith(stem.getKey())) {
+                return stem.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static boolean isNegation(String token) {
+        if (NEGATIONS.contains(token)) {
+            return true;
+        }
+        for (String stem : NEGATION_STEMS) {
+            if (token.startsWith(stem)) return true;
+        }
+        return false;
+    }
+
+    // 감정 프로필의 valence/energy 범위로 분석 결과 구성 (나머지 feature는 조건 없음)
+    private EmotionAnalysis toAnalysis(EmotionType type) {
+        EmotionFeatureProfile profile = profileManager.getProfile(type);
+        EmotionAnalysis analysis = new EmotionAnalysis();
+        analysis.setEmotionType(type.name());
+        analysis.setValence(profile.getValence());
+        analysis.setEnergy(profile.getEnergy());
+        return analysis;
+    }
+}
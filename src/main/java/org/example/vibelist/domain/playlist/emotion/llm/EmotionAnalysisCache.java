@@ -0,0 +1,97 @@
+package org.example.vibelist.domain.playlist.emotion.llm;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.vibelist.domain.playlist.emotion.profile.EmotionAnalysis;
+import org.example.vibelist.domain.playlist.emotion.type.EmotionModeType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LLM 감정 분석 결과 캐시 (정규화된 텍스트 + 모드 기준)
+ * - 1차: 노드 로컬 LRU
+ * - 2차: Redis (TTL)
+ */
+@Component
+@Slf4j
+public class EmotionAnalysisCache {
+
+    private static final String KEY_PREFIX = "llm:emotionAnalysis:";
+    // 긴 문장은 재사용될 가능성이 낮아 캐시하지 않음
+    private static final int MAX_KEY_TEXT_LENGTH = 100;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper redisObjectMapper;
+    private final Map<String, EmotionAnalysis> localCache;
+    private final long ttlMinutes;
+
+    public EmotionAnalysisCache(RedisTemplate<String, Object> redisTemplate,
+                                ObjectMapper redisObjectMapper,
+                                @Value("${llm.cache.local-max-size:1000}") int localMaxSize,
+                                @Value("${llm.cache.ttl-minutes:1440}") long ttlMinutes) {
+        this.redisTemplate = redisTemplate;
+        this.redisObjectMapper = redisObjectMapper;
+        this.ttlMinutes = ttlMinutes;
+        this.localCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, EmotionAnalysis> eldest) {
+                return size() > localMaxSize;
+            }
+        });
+    }
+
+    public EmotionAnalysis get(String userText, EmotionModeType mode) {
+        String key = cacheKey(userText, mode);
+        if (key == null) {
+            return null;
+        }
+
+        EmotionAnalysis local = localCache.get(key);
+        if (local != null) {
+            log.info("🚀 감정 분석 캐시 HIT(local): key={}", key);
+            return local;
+        }
+
+        try {
+            Object cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                EmotionAnalysis analysis = redisObjectMapper.convertValue(cached, EmotionAnalysis.class);
+                localCache.put(key, analysis);
+                log.info("🚀 감정 분석 캐시 HIT(redis): key={}", key);
+                return analysis;
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 감정 분석 캐시 조회 실패 - LLM 호출로 진행: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    public void put(String userText, EmotionModeType mode, EmotionAnalysis analysis) {
+        String key = cacheKey(userText, mode);
+        if (key == null || analysis == null) {
+            return;
+        }
+
+        localCache.put(key, analysis);
+        try {
+            redisTemplate.opsForValue().set(key, analysis, ttlMinutes, TimeUnit.MINUTES);
+        } catch (Exception e) {
+            log.warn("⚠️ 감정 분석 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    // 캐시 대상이 아니면 null
+    private String cacheKey(String userText, EmotionModeType mode) {
+        String normalized = EmotionTextNormalizer.normalize(userText);
+        if (normalized.isEmpty() || normalized.length() > MAX_KEY_TEXT_LENGTH) {
+            return null;
+        }
+        return KEY_PREFIX + mode + ":" + normalized;
+    }
+}
@@ -2,9 +2,13 @@ package org.example.vibelist.domain.playlist.emotion.llm;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
 import org.example.vibelist.domain.playlist.emotion.profile.EmotionAnalysis;
 import org.example.vibelist.global.response.GlobalException;
 import org.example.vibelist.global.response.ResponseCode;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
@@ -21,7 +25,8 @@ import java.util.concurrent.TimeoutException;
 @Component
 public class EmotionLLMClient {
 
-    private final WebClient webClient = WebClient.builder().build();
+    private final WebClient webClient; // 커넥션 풀 설정된 LLM 전용 WebClient (EmotionLLMClientConfig)
+    private final CircuitBreaker circuitBreaker;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Value("${llm.gemini.api-key}")
@@ -30,6 +35,11 @@ public class EmotionLLMClient {
     @Value("${llm.gemini.url}")
     private String apiUrl;
 
+    public EmotionLLMClient(@Qualifier("llmWebClient") WebClient webClient, CircuitBreaker llmCircuitBreaker) {
+        this.webClient = webClient;
+        this.circuitBreaker = llmCircuitBreaker;
+    }
+
     public Mono<EmotionAnalysis> requestEmotionAnalysis (String prompt){
         Map<String, Object> body = Map.of(
                 "contents", List.of(
@@ -62,6 +72,10 @@ public class EmotionLLMClient {
                         new GlobalException(ResponseCode.LLM_TIMEOUT, "LLM API 호출 시간 초과"))
                 .onErrorMap(WebClientRequestException.class, e ->
                         new GlobalException(ResponseCode.LLM_API_ERROR, "LLM API 요청 실패: " + e.getMessage()))
+                // 서킷 브레이커: 실패/지연이 누적되면 열려서 LLM 호출 없이 즉시 실패
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .onErrorMap(CallNotPermittedException.class, e ->
+                        new GlobalException(ResponseCode.LLM_CIRCUIT_OPEN))
                 // 3. JSON 파싱
                 .map(json -> json.get("candidates").get(0).get("content").get("parts").get(0).get("text").asText())
                 .map(this::extractJsonFromText)
@@ -0,0 +1,98 @@
+package org.example.vibelist.domain.playlist.emotion.llm;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.example.vibelist.global.response.GlobalException;
+import org.example.vibelist.global.response.ResponseCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Gemini 호출 전용 HTTP 클라이언트 / 서킷 브레이커 설정
+ * - 커넥션 풀 크기, keep-alive, 타임아웃을 llm.http.* 로 조정
+ * - 응답 지연/실패율 기반 서킷 브레이커 (열린 동안은 LLM을 호출하지 않고 바로 실패)
+ * - 서킷 상태는 resilience4j.circuitbreaker.state 메트릭으로 노출 (/actuator/metrics)
+ */
+@Configuration
+@Slf4j
+public class EmotionLLMClientConfig {
+
+    public static final String CIRCUIT_BREAKER_NAME = "gemini";
+
+    @Bean
+    public WebClient llmWebClient(@Value("${llm.http.max-connections:50}") int maxConnections,
+                                  @Value("${llm.http.pending-acquire-timeout-ms:1000}") long pendingAcquireTimeoutMs,
+                                  @Value("${llm.http.max-idle-time-seconds:30}") long maxIdleTimeSeconds,
+                                  @Value("${llm.http.max-life-time-seconds:300}") long maxLifeTimeSeconds,
+                                  @Value("${llm.http.connect-timeout-ms:2000}") int connectTimeoutMs,
+                                  @Value("${llm.http.response-timeout-ms:5000}") long responseTimeoutMs) {
+        ConnectionProvider provider = ConnectionProvider.builder("gemini")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(maxIdleTimeSeconds))
+                .maxLifeTime(Duration.ofSeconds(maxLifeTimeSeconds))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs));
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    @Bean
+    public CircuitBreaker llmCircuitBreaker(MeterRegistry meterRegistry,
+                                            @Value("${llm.circuit.failure-rate-threshold:50}") float failureRateThreshold,
+                                            @Value("${llm.circuit.slow-call-rate-threshold:50}") float slowCallRateThreshold,
+                                            @Value("${llm.circuit.slow-call-duration-ms:3000}") long slowCallDurationMs,
+                                            @Value("${llm.circuit.sliding-window-size:20}") int slidingWindowSize,
+                                            @Value("${llm.circuit.minimum-number-of-calls:10}") int minimumNumberOfCalls,
+                                            @Value("${llm.circuit.wait-in-open-ms:30000}") long waitInOpenMs,
+                                            @Value("${llm.circuit.half-open-calls:3}") int halfOpenCalls) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallDurationMs))
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .waitDurationInOpenState(Duration.ofMillis(waitInOpenMs))
+                .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                // 응답 파싱 실패 등 LLM 내용 문제는 장애로 보지 않음
+                .recordException(EmotionLLMClientConfig::isAvailabilityFailure)
+                .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        CircuitBreaker circuitBreaker = registry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+        circuitBreaker.getEventPublisher()
+                .onStateTransition(event -> log.warn("⚡ LLM 서킷 상태 변경: {}", event.getStateTransition()));
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return circuitBreaker;
+    }
+
+    private static boolean isAvailabilityFailure(Throwable e) {
+        if (e instanceof GlobalException ge) {
+            return ge.getResponseCode() == ResponseCode.LLM_API_ERROR
+                    || ge.getResponseCode() == ResponseCode.LLM_TIMEOUT;
+        }
+        return true;
+    }
+}
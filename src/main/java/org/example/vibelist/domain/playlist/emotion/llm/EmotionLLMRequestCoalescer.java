@@ -0,0 +1,42 @@
+package org.example.vibelist.domain.playlist.emotion.llm;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.vibelist.domain.playlist.emotion.profile.EmotionAnalysis;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 동일 프롬프트 LLM 요청 합치기 (single-flight)
+ * - 같은 프롬프트로 동시에 들어온 요청은 진행 중인 하나의 Mono를 공유
+ * - 결과/에러 모두 대기 중인 요청에 그대로 전달되고, 완료되면 목록에서 제거
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmotionLLMRequestCoalescer {
+
+    private final EmotionLLMClient llmClient;
+
+    // key = EmotionPromptBuilder.build 결과 프롬프트
+    private final Map<String, Mono<EmotionAnalysis>> inFlight = new ConcurrentHashMap<>();
+
+    public Mono<EmotionAnalysis> request(String prompt) {
+        return Mono.defer(() -> inFlight.computeIfAbsent(prompt, this::share));
+    }
+
+    private Mono<EmotionAnalysis> share(String prompt) {
+        log.info("🛫 LLM 요청 시작 (진행 중 {}건)", inFlight.size() + 1);
+        // 늦게 끝난 이전 요청이 같은 프롬프트의 새 요청을 지우지 않도록 자기 자신일 때만 제거
+        AtomicReference<Mono<EmotionAnalysis>> self = new AtomicReference<>();
+        Mono<EmotionAnalysis> shared = llmClient.requestEmotionAnalysis(prompt)
+                .doFinally(signal -> inFlight.remove(prompt, self.get()))
+                .cache();
+        self.set(shared);
+        return shared;
+    }
+}
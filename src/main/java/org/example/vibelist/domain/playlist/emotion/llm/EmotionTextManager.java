@@ -1,21 +1,34 @@
 package org.example.vibelist.domain.playlist.emotion.llm;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.RequiredArgsConstructor;
+import org.example.vibelist.domain.playlist.emotion.lexicon.EmotionLexiconClassifier;
 import org.example.vibelist.domain.playlist.emotion.profile.EmotionAnalysis;
 import org.example.vibelist.domain.playlist.emotion.type.EmotionModeType;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Component
 @RequiredArgsConstructor
 public class EmotionTextManager {
 
-    private final EmotionLLMClient llmClient;
+    private final EmotionLLMRequestCoalescer llmRequestCoalescer;
+    private final EmotionAnalysisCache analysisCache;
+    private final EmotionLexiconClassifier lexiconClassifier;
 
-    public EmotionAnalysis getEmotionAnalysis(String userText, EmotionModeType mode) throws JsonProcessingException {
-        String prompt = EmotionPromptBuilder.build(userText, mode);
-        EmotionAnalysis response = llmClient.requestEmotionAnalysis(prompt).block();
-
-        return response;
+    // 요청 스레드를 막지 않도록 Mono로 반환 (block 하지 않음)
+    public Mono<EmotionAnalysis> getEmotionAnalysis(String userText, EmotionModeType mode) {
+        // 감정 어휘만으로 분류되는 짧은 문장은 키워드 사전으로 바로 응답 (LLM/캐시 조회 생략)
+        // 비슷한 문장은 캐시된 분석 결과 재사용 (LLM 호출 생략)
+        return Mono.justOrEmpty(lexiconClassifier.classify(userText))
+                .switchIfEmpty(Mono.fromCallable(() -> analysisCache.get(userText, mode)))
+                .switchIfEmpty(Mono.defer(() -> {
+                    String prompt = EmotionPromptBuilder.build(userText, mode);
+                    // 같은 프롬프트로 동시에 들어온 요청은 하나의 LLM 호출을 공유
+                    return llmRequestCoalescer.request(prompt)
+                            // 캐시 저장(Redis)은 blocking 호출이므로 네트워크 이벤트 루프 밖에서 실행
+                            .publishOn(Schedulers.boundedElastic())
+                            .doOnNext(analysis -> analysisCache.put(userText, mode, analysis));
+                }));
     }
 }
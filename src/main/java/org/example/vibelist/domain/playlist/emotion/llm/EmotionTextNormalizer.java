@@ -0,0 +1,61 @@
+package org.example.vibelist.domain.playlist.emotion.llm;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 감정 분석 캐시 키용 텍스트 정규화
+ * - 대소문자, 공백, 문장부호 차이를 접고
+ * - 한국어 조사/종결어미와 의미 없는 수식어를 제거해
+ * "sad", "I'm sad", "so sad today" 같은 입력이 같은 키를 갖도록 함
+ */
+public final class EmotionTextNormalizer {
+
+    private static final Pattern PUNCTUATION = Pattern.compile("[^\\p{L}\\p{N}\\s]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // 길이가 긴 것부터 검사해야 "에서는"이 "는"보다 먼저 제거됨
+    private static final List<String> KOREAN_PARTICLES = List.of(
+            "에서는", "으로는", "이에요", "에게", "에서", "으로", "까지", "부터", "처럼", "이야", "이다", "예요",
+            "은", "는", "이", "가", "을", "를", "에", "의", "도", "로", "와", "과", "요", "야"
+    );
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "i", "im", "am", "me", "my", "a", "the", "is", "so", "very", "really", "just", "today", "feel", "feeling",
+            "나", "저", "내", "제", "오늘", "너무", "진짜", "정말", "좀", "그냥", "지금", "완전"
+    );
+
+    private EmotionTextNormalizer() {}
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        folded = PUNCTUATION.matcher(folded).replaceAll("");
+        folded = WHITESPACE.matcher(folded).replaceAll(" ").trim();
+
+        StringBuilder sb = new StringBuilder(folded.length());
+        for (String token : folded.split(" ")) {
+            String word = stripParticle(token);
+            if (word.isEmpty() || STOP_WORDS.contains(word)) continue;
+            if (!sb.isEmpty()) sb.append(' ');
+            sb.append(word);
+        }
+        // 전부 불용어인 경우 원문 정규화 결과를 그대로 사용
+        return sb.isEmpty() ? folded : sb.toString();
+    }
+
+    // 어간이 최소 한 글자 남는 경우에만 조사 제거
+    private static String stripParticle(String token) {
+        for (String particle : KOREAN_PARTICLES) {
+            if (token.length() > particle.length() && token.endsWith(particle)) {
+                return token.substring(0, token.length() - particle.length());
+            }
+        }
+        return token;
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.vibelist.domain.playlist.emotion.profile;
+
+import org.example.vibelist.domain.playlist.emotion.type.EmotionType;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * emotion_profiles.json의 valence/energy 범위를 기동 시 격자로 컴파일한 감정 분류기
+ * - valence, energy 경계값을 정렬해 두고 이진 탐색으로 칸을 찾아 EmotionType[][]에서 조회 (할당 없음, O(log n))
+ * - 경계 규칙: 각 칸은 [하한, 상한) 이고 가장 큰 경계값만 마지막 칸에 포함
+ *   (예: valence 0.281 -> Mid 구간, valence 1.0 -> High 구간)
+ * - 여러 프로필이 같은 칸을 덮으면 EmotionType 선언 순서가 앞선 감정을 사용
+ * - 어느 프로필에도 속하지 않는 좌표는 fallback 감정으로 분류
+ */
+public final class EmotionClassificationLattice {
+
+    private final double[] valenceCuts;
+    private final double[] energyCuts;
+    private final EmotionType[][] grid; // [valence 칸][energy 칸]
+    private final EmotionType fallback;
+
+    private EmotionClassificationLattice(double[] valenceCuts, double[] energyCuts, EmotionType[][] grid, EmotionType fallback) {
+        this.valenceCuts = valenceCuts;
+        this.energyCuts = energyCuts;
+        this.grid = grid;
+        this.fallback = fallback;
+    }
+
+    public static EmotionClassificationLattice compile(Map<EmotionType, EmotionFeatureProfile> ranges, EmotionType fallback) {
+        TreeSet<Double> valenceSet = new TreeSet<>();
+        TreeSet<Double> energySet = new TreeSet<>();
+        for (EmotionFeatureProfile range : ranges.values()) {
+            valenceSet.add(range.getValence().getMin());
+            valenceSet.add(range.getValence().getMax());
+            energySet.add(range.getEnergy().getMin());
+            energySet.add(range.getEnergy().getMax());
+        }
+        double[] valenceCuts = valenceSet.stream().mapToDouble(Double::doubleValue).toArray();
+        double[] energyCuts = energySet.stream().mapToDouble(Double::doubleValue).toArray();
+
+        int rows = Math.max(0, valenceCuts.length - 1);
+        int cols = Math.max(0, energyCuts.length - 1);
+        EmotionType[][] grid = new EmotionType[rows][cols];
+        for (int v = 0; v < rows; v++) {
+            for (int e = 0; e < cols; e++) {
+                grid[v][e] = resolveCell(ranges, valenceCuts[v], valenceCuts[v + 1], energyCuts[e], energyCuts[e + 1], fallback);
+            }
+        }
+        return new EmotionClassificationLattice(valenceCuts, energyCuts, grid, fallback);
+    }
+
+    public EmotionType classify(double valence, double energy) {
+        int v = cellIndex(valenceCuts, valence);
+        int e = cellIndex(energyCuts, energy);
+        if (v < 0 || e < 0) {
+            return fallback;
+        }
+        return grid[v][e];
+    }
+
+    // 값이 속한 칸 번호 (범위 밖이거나 NaN이면 -1)
+    private static int cellIndex(double[] cuts, double value) {
+        int last = cuts.length - 1;
+        if (last < 1 || !(value >= cuts[0]) || value > cuts[last]) {
+            return -1;
+        }
+        if (value == cuts[last]) {
+            return last - 1;
+        }
+        int pos = Arrays.binarySearch(cuts, value);
+        // 정확히 경계값이면 그 경계에서 시작하는 칸, 아니면 삽입 위치 바로 앞 칸
+        return pos >= 0 ? pos : -pos - 2;
+    }
+
+    // 칸 전체를 덮는 프로필 중 선언 순서가 가장 앞선 감정
+    private static EmotionType resolveCell(Map<EmotionType, EmotionFeatureProfile> ranges,
+                                           double vMin, double vMax, double eMin, double eMax, EmotionType fallback) {
+        for (EmotionType type : EmotionType.values()) {
+            EmotionFeatureProfile range = ranges.get(type);
+            if (range == null) continue;
+            if (range.getValence().getMin() <= vMin && vMax <= range.getValence().getMax()
+                    && range.getEnergy().getMin() <= eMin && eMax <= range.getEnergy().getMax()) {
+                return type;
+            }
+        }
+        return fallback;
+    }
+}
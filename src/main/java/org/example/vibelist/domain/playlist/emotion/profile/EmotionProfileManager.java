@@ -9,13 +9,15 @@ import org.springframework.stereotype.Component;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.EnumMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Component
 public class EmotionProfileManager {
 
     private final Map<EmotionType, EmotionProfileEntry> profileMap;
+    // 기동 시 valence/energy 범위를 컴파일한 분류 격자
+    private final EmotionClassificationLattice lattice;
 
     public EmotionProfileManager(@Value("${emotion.profile.path}") String jsonPath) throws IOException {
         File file = new File(jsonPath);
@@ -23,19 +25,16 @@ public class EmotionProfileManager {
         TypeReference<Map<String, EmotionProfileEntry>> typeRef = new TypeReference<>() {};
         Map<String, EmotionProfileEntry> raw = mapper.readValue(file, typeRef);
 
-        this.profileMap = raw.entrySet().stream()
-                .collect(Collectors.toMap(
-                        e -> EmotionType.valueOf(e.getKey()),
-                        Map.Entry::getValue
-                ));
+        this.profileMap = new EnumMap<>(EmotionType.class);
+        raw.forEach((key, entry) -> profileMap.put(EmotionType.valueOf(key), entry));
+
+        Map<EmotionType, EmotionFeatureProfile> ranges = new EnumMap<>(EmotionType.class);
+        profileMap.forEach((type, entry) -> ranges.put(type, entry.getRange()));
+        this.lattice = EmotionClassificationLattice.compile(ranges, EmotionType.NEUTRAL);
     }
 
     public EmotionType classify(double valence, double energy) {
-        return profileMap.entrySet().stream()
-                .filter(entry -> isInRange(entry.getValue().getRange(), valence, energy))
-                .map(Map.Entry::getKey)
-                .findFirst()
-                .orElse(EmotionType.NEUTRAL);
+        return lattice.classify(valence, energy);
     }
 
     public EmotionType getTransition(EmotionType current, EmotionModeType mode) {
@@ -49,9 +48,4 @@ public class EmotionProfileManager {
                 .energy(feature.getEnergy())
                 .build();
     }
-
-    private boolean isInRange(EmotionFeatureProfile feature, double val, double eng) {
-        return val >= feature.getValence().getMin() && val <= feature.getValence().getMax()
-                && eng >= feature.getEnergy().getMin() && eng <= feature.getEnergy().getMax();
-    }
 }
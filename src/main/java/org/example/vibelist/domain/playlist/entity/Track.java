@@ -3,8 +3,14 @@ package org.example.vibelist.domain.playlist.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.example.vibelist.domain.batch.audiofeature.entity.AudioFeature;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = @Index(name = "idx_track_updated_at", columnList = "updated_at"))
+@EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -29,5 +35,10 @@ public class Track {
     @JoinColumn(name = "audio_feature_id") //auth.getUser()에 실제로 접근할 때 User 쿼리 발생!
     private AudioFeature audioFeature;
 
+    // ES 증분 동기화 기준 시각 (JDBC/COPY 적재 행은 DB 기본값 now() = 트랜잭션 시작 시각, 동기화 상한은 열린 트랜잭션 시작 시각까지로 제한)
+    @LastModifiedDate
+    @Column(name = "updated_at", columnDefinition = "timestamp(6) default now()")
+    private LocalDateTime updatedAt;
+
 
 }
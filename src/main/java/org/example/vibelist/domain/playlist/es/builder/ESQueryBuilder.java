@@ -1,5 +1,6 @@
 package org.example.vibelist.domain.playlist.es.builder;
 
+import co.elastic.clients.elasticsearch._types.FieldValue;
 import co.elastic.clients.elasticsearch._types.query_dsl.*;
 import co.elastic.clients.json.JsonData;
 import org.example.vibelist.domain.playlist.emotion.profile.EmotionAnalysis;
@@ -7,86 +8,165 @@ import org.example.vibelist.domain.playlist.util.DoubleRange;
 import org.example.vibelist.domain.playlist.emotion.profile.EmotionFeatureProfile;
 
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 // 감정 범위(valence, energy)를 기반으로 Elasticsearch 검색 쿼리를 생성하는 클래스
-// 랜덤 추천을 위해 function_score + random_score 쿼리를 사용
+// 랜덤 추천은 점수 계산 없이 색인 시 저장한 randomKey 정렬 + 무작위 시작점(search_after)으로 처리
+// -> 범위 조건은 filter 절로만 구성되어 요청마다 같은 형태가 되고 필터 캐시 재사용 가능
+// 장르 필터는 ClauseMode와 관계없이 항상 filter 절의 terms 쿼리 (keyword 필드, 점수 계산 없음)
 public class ESQueryBuilder {
 
+    // 트랙별 무작위 정렬 키 필드 (EsService.convertToEs에서 색인 시 기록)
+    public static final String RANDOM_KEY_FIELD = "randomKey";
+    // randomKey 값 범위: [0, RANDOM_KEY_SPACE)
+    public static final int RANDOM_KEY_SPACE = 1 << 20;
+
+    // 최근접 이웃 검색용 벡터 필드 (valence, energy) - 좌표 요청이 가진 차원과 같음
+    public static final String FEATURE_VECTOR_FIELD = "featureVector";
+    public static final int FEATURE_VECTOR_DIMS = 2;
+
+    // 장르 keyword 필드 (GenreDictionary로 정규화된 값)
+    public static final String GENRES_FIELD = "genres";
+
+    public static float[] featureVector(double valence, double energy) {
+        return new float[]{(float) valence, (float) energy};
+    }
+
+    // kNN 쿼리 벡터 (ES client는 List<Float>로 받음)
+    public static List<Float> queryVector(double valence, double energy) {
+        return List.of((float) valence, (float) energy);
+    }
+
+    // 트랙 id로 randomKey 계산 (재색인해도 같은 값이 나오도록 해시 기반)
+    public static int randomKeyOf(String id) {
+        int h = id == null ? 0 : id.hashCode();
+        // murmur3 finalizer로 비트를 섞어 비슷한 id도 고르게 분산
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h & (RANDOM_KEY_SPACE - 1);
+    }
+
+    // 요청마다 달라지는 샘플링 시작점 (search_after 커서 값)
+    public static int randomStart() {
+        return ThreadLocalRandom.current().nextInt(RANDOM_KEY_SPACE);
+    }
+
+    /**
+     * 범위 조건을 bool 쿼리의 어느 절에 넣을지
+     * - FILTER: 점수 계산 없는 filter 절 (노드 query cache 대상, 기본값)
+     * - MUST: 기존 방식의 점수 계산 must 절 (성능 비교용)
+     */
+    public enum ClauseMode {
+        MUST, FILTER
+    }
+
     // 기존 EmotionFeatureProfile용
     public static Query build(EmotionFeatureProfile profile) {
-        return build(profile.getEnergy(), profile.getValence());
+        return build(profile, ClauseMode.FILTER);
+    }
+
+    public static Query build(EmotionFeatureProfile profile, ClauseMode mode) {
+        return build(profile.getEnergy(), profile.getValence(), mode);
+    }
+
+    // 장르 필터 포함 (genres가 비어 있으면 필터 없음)
+    public static Query build(EmotionFeatureProfile profile, List<String> genres) {
+        return build(profile.getEnergy(), profile.getValence(), ClauseMode.FILTER, genres);
     }
 
     // 기존 방식도 유지 (valence/energy만)
     public static Query build(DoubleRange energy, DoubleRange valence) {
-        Query innerQuery = BoolQuery.of(b -> {
-            addRangeQuery(b, "energy", energy);
-            addRangeQuery(b, "valence", valence);
-            b.must(queryBuilder -> queryBuilder
-                    .range(rq -> rq
-                            .untyped(u -> u
-                                    .field("trackMetrics.popularity")
-                                    .gte(JsonData.of(10)))
-
-                    )
-            );
+        return build(energy, valence, ClauseMode.FILTER);
+    }
+
+    public static Query build(DoubleRange energy, DoubleRange valence, ClauseMode mode) {
+        return build(energy, valence, mode, List.of());
+    }
+
+    public static Query build(DoubleRange energy, DoubleRange valence, ClauseMode mode, List<String> genres) {
+        return BoolQuery.of(b -> {
+            addRangeQuery(b, mode, "energy", energy);
+            addRangeQuery(b, mode, "valence", valence);
+            addPopularityQuery(b, mode);
+            addGenreFilter(b, genres);
             return b;
         })._toQuery();
-
-        return wrapFunctionScore(innerQuery);
     }
 
     // 새로운 AudioFeatureRange(여러 feature) 지원
     public static Query build(EmotionAnalysis range) {
-        Query innerQuery = BoolQuery.of(b -> {
-            addRangeQuery(b, "danceability", range.getDanceability());
-            addRangeQuery(b, "energy", range.getEnergy());
-            addRangeQuery(b, "speechiness", range.getSpeechiness());
-            addRangeQuery(b, "acousticness", range.getAcousticness());
-            addRangeQuery(b, "liveness", range.getLiveness());
-            addRangeQuery(b, "valence", range.getValence());
-            addRangeQuery(b, "loudness", range.getLoudness());
-            addRangeQuery(b, "tempo", range.getTempo());
-            b.must(queryBuilder -> queryBuilder
-                    .range(rq -> rq
-                            .untyped(u -> u
-                                    .field("trackMetrics.popularity")
-                                            .gte(JsonData.of(10)))
-
-                    )
-            );
+        return build(range, ClauseMode.FILTER);
+    }
+
+    public static Query build(EmotionAnalysis range, ClauseMode mode) {
+        return build(range, mode, List.of());
+    }
+
+    public static Query build(EmotionAnalysis range, List<String> genres) {
+        return build(range, ClauseMode.FILTER, genres);
+    }
+
+    public static Query build(EmotionAnalysis range, ClauseMode mode, List<String> genres) {
+        return BoolQuery.of(b -> {
+            addRangeQuery(b, mode, "danceability", range.getDanceability());
+            addRangeQuery(b, mode, "energy", range.getEnergy());
+            addRangeQuery(b, mode, "speechiness", range.getSpeechiness());
+            addRangeQuery(b, mode, "acousticness", range.getAcousticness());
+            addRangeQuery(b, mode, "liveness", range.getLiveness());
+            addRangeQuery(b, mode, "valence", range.getValence());
+            addRangeQuery(b, mode, "loudness", range.getLoudness());
+            addRangeQuery(b, mode, "tempo", range.getTempo());
+            addPopularityQuery(b, mode);
+            addGenreFilter(b, genres);
             return b;
         })._toQuery();
+    }
 
-        return wrapFunctionScore(innerQuery);
-    }
-
-    private static Query wrapFunctionScore(Query innerQuery) {
-        return Query.of(q -> q
-                .functionScore(fs -> fs
-                        .query(innerQuery)
-                        .functions(List.of(
-                                FunctionScore.of(fn -> fn
-                                        .randomScore(rs -> rs
-                                                .seed(String.valueOf(System.currentTimeMillis()))
-                                                .field("_seq_no")
-                                        )
-                                )
-                        ))
+    private static void addPopularityQuery(BoolQuery.Builder bool, ClauseMode mode) {
+        addClause(bool, mode, Query.of(q -> q
+                .range(rq -> rq
+                        .untyped(u -> u
+                                .field("trackMetrics.popularity")
+                                .gte(JsonData.of(10)))
                 )
-        );
+        ));
     }
 
-    private static void addRangeQuery(BoolQuery.Builder bool, String field, DoubleRange range) {
+    // 장르 중 하나라도 포함 (kNN 검색의 filter에도 사용)
+    public static Query genreFilter(List<String> genres) {
+        List<FieldValue> values = genres.stream().map(FieldValue::of).toList();
+        return Query.of(q -> q.terms(t -> t
+                .field(GENRES_FIELD)
+                .terms(v -> v.value(values))
+        ));
+    }
+
+    private static void addGenreFilter(BoolQuery.Builder bool, List<String> genres) {
+        if (genres == null || genres.isEmpty()) return;
+        bool.filter(genreFilter(genres));
+    }
+
+    private static void addRangeQuery(BoolQuery.Builder bool, ClauseMode mode, String field, DoubleRange range) {
         if (range == null) return;
 
-        bool.must(q -> q.range(r -> r
+        addClause(bool, mode, Query.of(q -> q.range(r -> r
                 .untyped(u -> u
                         .field(field)                         // ← 필드명
                         .gte(JsonData.of(range.getMin()))     // 최소값
                         .lte(JsonData.of(range.getMax()))     // 최대값
                 )
-        ));
+        )));
+    }
+
+    private static void addClause(BoolQuery.Builder bool, ClauseMode mode, Query clause) {
+        if (mode == ClauseMode.FILTER) {
+            bool.filter(clause);
+        } else {
+            bool.must(clause);
+        }
     }
 
 }
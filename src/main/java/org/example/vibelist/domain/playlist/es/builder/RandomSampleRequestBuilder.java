@@ -0,0 +1,42 @@
+package org.example.vibelist.domain.playlist.es.builder;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.mapping.FieldType;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import org.example.vibelist.domain.playlist.es.document.AudioFeatureEsDocument;
+
+// randomKey 오름차순 정렬 + search_after 시작점으로 무작위 구간을 읽는 검색 요청 생성
+// - startAfter == null 이면 key 공간의 처음부터 읽음 (끝에 걸렸을 때 앞쪽으로 이어 읽는 용도)
+// - _source는 AudioFeatureEsDocument가 쓰는 필드만 받음 (응답 크기/파싱 비용 절감)
+public class RandomSampleRequestBuilder {
+
+    public static SearchRequest build(Query query, int size, Integer startAfter) {
+        return build(AudioFeatureEsDocument.INDEX_ALIAS, query, size, startAfter);
+    }
+
+    // 인덱스를 직접 지정 (별칭 교체 전 새 인덱스 warm-up 등)
+    public static SearchRequest build(String index, Query query, int size, Integer startAfter) {
+        return SearchRequest.of(s -> {
+            s.index(index)
+                    .query(query)
+                    .size(size)
+                    .source(src -> src
+                            .filter(f -> f.includes(AudioFeatureEsDocument.SOURCE_FIELDS))
+                    )
+                    .trackTotalHits(t -> t.enabled(false))
+                    .sort(sort -> sort
+                            .field(f -> f
+                                    .field(ESQueryBuilder.RANDOM_KEY_FIELD)
+                                    .order(SortOrder.Asc)
+                                    .unmappedType(FieldType.Integer)
+                            )
+                    );
+            if (startAfter != null) {
+                s.searchAfter(FieldValue.of(startAfter));
+            }
+            return s;
+        });
+    }
+}
@@ -8,13 +8,22 @@ import lombok.NoArgsConstructor;
 import org.example.vibelist.domain.batch.elasticsearch.dto.TrackMetrics;
 import org.springframework.data.elasticsearch.annotations.Document;
 
+import java.util.List;
+
 @JsonIgnoreProperties(ignoreUnknown = true)
-@Document(indexName = "audio_feature_index")
+@Document(indexName = AudioFeatureEsDocument.INDEX_ALIAS)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class AudioFeatureEsDocument {
+
+    // 검색/색인이 쓰는 읽기 별칭 (실제 데이터는 audio_feature_index_v<버전> 인덱스, AudioFeatureIndexRebuildService가 교체)
+    public static final String INDEX_ALIAS = "audio_feature_index";
+
+    // 추천 검색에서 _source로 받아올 필드 (TrackRsDto 변환에 필요한 것만, genres/audio feature 제외)
+    public static final List<String> SOURCE_FIELDS = List.of("spotifyId", "durationMs", "trackMetrics.*");
+
     private String spotifyId;
     private int durationMs;
 
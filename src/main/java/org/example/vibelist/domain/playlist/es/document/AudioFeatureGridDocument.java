@@ -0,0 +1,37 @@
+package org.example.vibelist.domain.playlist.es.document;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.vibelist.domain.batch.elasticsearch.dto.TrackMetrics;
+
+import java.util.List;
+
+// 인메모리 feature grid 적재용 문서 (추천 범위 검색에 쓰이는 audio feature + 응답용 트랙 정보)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Data
+@NoArgsConstructor
+public class AudioFeatureGridDocument {
+
+    public static final List<String> SOURCE_FIELDS = List.of(
+            "spotifyId", "durationMs", "trackMetrics.*",
+            "danceability", "energy", "speechiness", "acousticness", "liveness", "valence", "loudness", "tempo"
+    );
+
+    private String spotifyId;
+    private int durationMs;
+    private TrackMetrics trackMetrics;
+
+    private double danceability;
+    private double energy;
+    private double speechiness;
+    private double acousticness;
+    private double liveness;
+    private double valence;
+    private double loudness;
+    private double tempo;
+
+    public AudioFeatureEsDocument toEsDocument() {
+        return new AudioFeatureEsDocument(spotifyId, durationMs, trackMetrics);
+    }
+}
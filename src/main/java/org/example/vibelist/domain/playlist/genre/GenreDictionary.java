@@ -0,0 +1,88 @@
+package org.example.vibelist.domain.playlist.genre;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 장르 문자열 사전 (색인 변환과 추천 필터가 공유)
+ * - 장르 이름을 소문자/trim으로 정규화해 하나의 String 인스턴스로 intern
+ *   -> 수십만 트랙이 같은 장르 문자열을 각자 들고 있지 않음
+ * - 색인되는 genres 값도 소문자가 되므로 기존 문서는 재색인(/v1/elasticsearch/rebuild) 후에 장르 필터에 매칭됨
+ * - audio_feature.genres("pop;dance pop") 파싱은 정규식/stream 없이 indexOf로 처리 (parallel 변환에서 동시 호출 가능)
+ * - 요청의 장르 필터는 사전에 등록하지 않고 정규화만 함 (사용자 입력으로 사전이 커지지 않도록)
+ */
+@Component
+public class GenreDictionary {
+
+    public static final char SEPARATOR = ';';
+
+    private final Map<String, String> genres = new ConcurrentHashMap<>();
+
+    /**
+     * ; 로 구분된 장르 문자열 -> intern된 장르 목록 (빈 항목/중복 제외, 순서 유지)
+     */
+    public List<String> parse(String raw) {
+        if (raw == null || raw.isEmpty()) {
+            return List.of();
+        }
+        List<String> result = new ArrayList<>(4);
+        int start = 0;
+        int length = raw.length();
+        while (start <= length) {
+            int end = raw.indexOf(SEPARATOR, start);
+            if (end < 0) {
+                end = length;
+            }
+            String genre = intern(raw, start, end);
+            if (genre != null && !result.contains(genre)) {
+                result.add(genre);
+            }
+            start = end + 1;
+        }
+        return result;
+    }
+
+    public int size() {
+        return genres.size();
+    }
+
+    /**
+     * 요청 장르 필터 정규화 (사전에 등록하지 않음)
+     * @return 정규화된 장르 목록, 유효한 항목이 없으면 빈 목록
+     */
+    public static List<String> normalizeAll(Collection<String> requested) {
+        if (requested == null || requested.isEmpty()) {
+            return List.of();
+        }
+        List<String> result = new ArrayList<>(requested.size());
+        for (String genre : requested) {
+            String normalized = genre == null ? "" : normalize(genre.trim());
+            if (!normalized.isEmpty() && !result.contains(normalized)) {
+                result.add(normalized);
+            }
+        }
+        return result;
+    }
+
+    private String intern(String raw, int start, int end) {
+        while (start < end && Character.isWhitespace(raw.charAt(start))) start++;
+        while (end > start && Character.isWhitespace(raw.charAt(end - 1))) end--;
+        if (start == end) {
+            return null;
+        }
+        // 이미 소문자인 경우 toLowerCase는 같은 인스턴스를 반환하므로 substring 하나만 생성
+        String key = normalize(raw.substring(start, end));
+        String genre = genres.putIfAbsent(key, key);
+        return genre != null ? genre : key;
+    }
+
+    private static String normalize(String genre) {
+        return genre.toLowerCase(Locale.ROOT);
+    }
+}
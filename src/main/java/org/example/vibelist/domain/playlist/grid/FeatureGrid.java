@@ -0,0 +1,276 @@
+package org.example.vibelist.domain.playlist.grid;
+
+import org.example.vibelist.domain.playlist.dto.TrackRsDto;
+import org.example.vibelist.domain.playlist.emotion.profile.EmotionAnalysis;
+import org.example.vibelist.domain.playlist.emotion.profile.EmotionFeatureProfile;
+import org.example.vibelist.domain.playlist.es.document.AudioFeatureGridDocument;
+import org.example.vibelist.domain.playlist.util.DoubleRange;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * valence x energy 격자로 나눈 트랙 audio feature 컬럼 저장소 (불변)
+ * - 각 칸은 feature별 float[] 컬럼 + 응답용 TrackRsDto[]를 가짐
+ * - 범위 검색 시 valence/energy 범위와 겹치는 칸만 순회하고, 조건에 맞는 행을 reservoir 샘플링
+ * - ES 필드가 float로 색인되므로 값과 범위 경계를 모두 float로 비교해 ES 검색 결과와 같은 경계 동작을 유지
+ */
+public final class FeatureGrid {
+
+    static final int DANCEABILITY = 0;
+    static final int ENERGY = 1;
+    static final int SPEECHINESS = 2;
+    static final int ACOUSTICNESS = 3;
+    static final int LIVENESS = 4;
+    static final int VALENCE = 5;
+    static final int LOUDNESS = 6;
+    static final int TEMPO = 7;
+    static final int FEATURES = 8;
+
+    private final int cells; // 축당 칸 수
+    private final Bucket[] buckets; // [valence 칸 * cells + energy 칸]
+    private final int size;
+
+    private FeatureGrid(int cells, Bucket[] buckets, int size) {
+        this.cells = cells;
+        this.buckets = buckets;
+        this.size = size;
+    }
+
+    public static FeatureGrid build(List<AudioFeatureGridDocument> docs, int cells) {
+        int n = docs.size();
+        float[][] columns = new float[FEATURES][n];
+        TrackRsDto[] tracks = new TrackRsDto[n];
+        for (int row = 0; row < n; row++) {
+            AudioFeatureGridDocument doc = docs.get(row);
+            columns[DANCEABILITY][row] = (float) doc.getDanceability();
+            columns[ENERGY][row] = (float) doc.getEnergy();
+            columns[SPEECHINESS][row] = (float) doc.getSpeechiness();
+            columns[ACOUSTICNESS][row] = (float) doc.getAcousticness();
+            columns[LIVENESS][row] = (float) doc.getLiveness();
+            columns[VALENCE][row] = (float) doc.getValence();
+            columns[LOUDNESS][row] = (float) doc.getLoudness();
+            columns[TEMPO][row] = (float) doc.getTempo();
+            tracks[row] = TrackRsDto.from(doc.toEsDocument());
+        }
+        return build(columns, tracks, cells);
+    }
+
+    // 전체 컬럼([feature][row])을 칸별 컬럼으로 나눠 담음
+    static FeatureGrid build(float[][] columns, TrackRsDto[] tracks, int cells) {
+        int n = tracks.length;
+        int[] cellOfRow = new int[n];
+        int[] counts = new int[cells * cells];
+        for (int row = 0; row < n; row++) {
+            int cell = cellOf(columns[VALENCE][row], cells) * cells + cellOf(columns[ENERGY][row], cells);
+            cellOfRow[row] = cell;
+            counts[cell]++;
+        }
+
+        float[][][] cellColumns = new float[cells * cells][][];
+        TrackRsDto[][] cellTracks = new TrackRsDto[cells * cells][];
+        for (int cell = 0; cell < counts.length; cell++) {
+            cellColumns[cell] = new float[FEATURES][counts[cell]];
+            cellTracks[cell] = new TrackRsDto[counts[cell]];
+        }
+        int[] filled = new int[cells * cells];
+        for (int row = 0; row < n; row++) {
+            int cell = cellOfRow[row];
+            int pos = filled[cell]++;
+            for (int f = 0; f < FEATURES; f++) {
+                cellColumns[cell][f][pos] = columns[f][row];
+            }
+            cellTracks[cell][pos] = tracks[row];
+        }
+
+        Bucket[] buckets = new Bucket[cells * cells];
+        for (int cell = 0; cell < buckets.length; cell++) {
+            buckets[cell] = new Bucket(cellColumns[cell], cellTracks[cell]);
+        }
+        return new FeatureGrid(cells, buckets, n);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // valence, energy 범위 검색
+    public List<TrackRsDto> sample(EmotionFeatureProfile profile, int count) {
+        float[] min = unbounded(Float.NEGATIVE_INFINITY);
+        float[] max = unbounded(Float.POSITIVE_INFINITY);
+        setRange(min, max, VALENCE, profile.getValence());
+        setRange(min, max, ENERGY, profile.getEnergy());
+        return sample(min, max, count);
+    }
+
+    // LLM 분석 결과의 여러 feature 범위 검색
+    public List<TrackRsDto> sample(EmotionAnalysis analysis, int count) {
+        float[] min = unbounded(Float.NEGATIVE_INFINITY);
+        float[] max = unbounded(Float.POSITIVE_INFINITY);
+        setRange(min, max, DANCEABILITY, analysis.getDanceability());
+        setRange(min, max, ENERGY, analysis.getEnergy());
+        setRange(min, max, SPEECHINESS, analysis.getSpeechiness());
+        setRange(min, max, ACOUSTICNESS, analysis.getAcousticness());
+        setRange(min, max, LIVENESS, analysis.getLiveness());
+        setRange(min, max, VALENCE, analysis.getValence());
+        setRange(min, max, LOUDNESS, analysis.getLoudness());
+        setRange(min, max, TEMPO, analysis.getTempo());
+        return sample(min, max, count);
+    }
+
+    private List<TrackRsDto> sample(float[] min, float[] max, int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        TrackRsDto[] reservoir = new TrackRsDto[count];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long seen = 0;
+
+        int vFrom = cellOf(min[VALENCE], cells), vTo = cellOf(max[VALENCE], cells);
+        int eFrom = cellOf(min[ENERGY], cells), eTo = cellOf(max[ENERGY], cells);
+        for (int v = vFrom; v <= vTo; v++) {
+            for (int e = eFrom; e <= eTo; e++) {
+                Bucket bucket = buckets[v * cells + e];
+                for (int row = 0; row < bucket.tracks.length; row++) {
+                    if (!bucket.matches(row, min, max)) continue;
+                    // reservoir 샘플링: 매칭된 행마다 count/seen 확률로 교체
+                    if (seen < count) {
+                        reservoir[(int) seen] = bucket.tracks[row];
+                    } else {
+                        long j = random.nextLong(seen + 1);
+                        if (j < count) {
+                            reservoir[(int) j] = bucket.tracks[row];
+                        }
+                    }
+                    seen++;
+                }
+            }
+        }
+
+        List<TrackRsDto> result = new ArrayList<>(Arrays.asList(reservoir).subList(0, (int) Math.min(seen, count)));
+        // 앞쪽 칸의 곡이 앞에 몰리지 않도록 순서 섞기
+        Collections.shuffle(result, random);
+        return result;
+    }
+
+    /**
+     * (valence, energy) 좌표와 유클리드 거리가 가까운 순으로 k개 (brute-force 스캔)
+     * - 칸까지의 최소 거리 순으로 방문하고, 현재 k번째 거리보다 먼 칸은 건너뜀
+     * - 칸 내부는 valence/energy float 컬럼을 순차 스캔 (분기 적은 루프라 JIT 벡터화 대상)
+     */
+    public List<TrackRsDto> nearest(double valence, double energy, int k) {
+        if (k <= 0 || size == 0) {
+            return List.of();
+        }
+        float qv = (float) valence;
+        float qe = (float) energy;
+
+        // 칸까지의 최소 거리(float 비트, 음수 아님 -> 정렬 순서 보존) + 칸 번호를 long 하나로 묶어 정렬
+        long[] order = new long[buckets.length];
+        for (int v = 0; v < cells; v++) {
+            for (int e = 0; e < cells; e++) {
+                float dist = cellDistance(qv, v) + cellDistance(qe, e);
+                order[v * cells + e] = ((long) Float.floatToIntBits(dist) << 32) | (v * cells + e);
+            }
+        }
+        Arrays.sort(order);
+
+        float[] bestDist = new float[k];
+        TrackRsDto[] best = new TrackRsDto[k];
+        int count = 0;
+        int worst = 0; // bestDist 중 가장 먼 위치
+
+        for (long entry : order) {
+            float cellDist = Float.intBitsToFloat((int) (entry >>> 32));
+            if (count == k && cellDist > bestDist[worst]) {
+                break; // 이후 칸은 모두 더 멂
+            }
+            Bucket bucket = buckets[(int) entry];
+            float[] vs = bucket.columns[VALENCE];
+            float[] es = bucket.columns[ENERGY];
+            for (int row = 0; row < vs.length; row++) {
+                float dv = vs[row] - qv;
+                float de = es[row] - qe;
+                float dist = dv * dv + de * de;
+                if (count < k) {
+                    bestDist[count] = dist;
+                    best[count] = bucket.tracks[row];
+                    if (dist > bestDist[worst]) worst = count;
+                    count++;
+                } else if (dist < bestDist[worst]) {
+                    bestDist[worst] = dist;
+                    best[worst] = bucket.tracks[row];
+                    worst = argMax(bestDist, k);
+                }
+            }
+        }
+
+        // 가까운 순으로 정렬해 반환
+        Integer[] idx = new Integer[count];
+        for (int i = 0; i < count; i++) idx[i] = i;
+        Arrays.sort(idx, (a, b) -> Float.compare(bestDist[a], bestDist[b]));
+        List<TrackRsDto> result = new ArrayList<>(count);
+        for (int i : idx) result.add(best[i]);
+        return result;
+    }
+
+    // 좌표에서 한 축 방향으로 칸까지의 최소 제곱 거리
+    private float cellDistance(float value, int cell) {
+        float lo = (float) cell / cells;
+        float hi = (float) (cell + 1) / cells;
+        // 가장자리 칸은 범위 밖 값도 담으므로 바깥쪽 경계를 열어 둠
+        if (cell == 0) lo = Float.NEGATIVE_INFINITY;
+        if (cell == cells - 1) hi = Float.POSITIVE_INFINITY;
+        float d = value < lo ? lo - value : value > hi ? value - hi : 0f;
+        return d * d;
+    }
+
+    private static int argMax(float[] values, int length) {
+        int max = 0;
+        for (int i = 1; i < length; i++) {
+            if (values[i] > values[max]) max = i;
+        }
+        return max;
+    }
+
+    // 범위를 벗어난 값은 가장자리 칸으로 (무한대 범위 = 전체 칸)
+    private static int cellOf(double value, int cells) {
+        if (!(value > 0)) return 0;
+        if (value >= 1) return cells - 1;
+        return Math.min(cells - 1, (int) (value * cells));
+    }
+
+    private static float[] unbounded(float value) {
+        float[] bounds = new float[FEATURES];
+        Arrays.fill(bounds, value);
+        return bounds;
+    }
+
+    private static void setRange(float[] min, float[] max, int feature, DoubleRange range) {
+        if (range == null) return;
+        min[feature] = (float) range.getMin();
+        max[feature] = (float) range.getMax();
+    }
+
+    // 격자 한 칸: feature별 float 컬럼 + 응답 DTO
+    private static final class Bucket {
+        private final float[][] columns; // [feature][row]
+        private final TrackRsDto[] tracks;
+
+        private Bucket(float[][] columns, TrackRsDto[] tracks) {
+            this.columns = columns;
+            this.tracks = tracks;
+        }
+
+        boolean matches(int row, float[] min, float[] max) {
+            for (int f = 0; f < FEATURES; f++) {
+                float value = columns[f][row];
+                if (value < min[f] || value > max[f]) return false;
+            }
+            return true;
+        }
+    }
+}
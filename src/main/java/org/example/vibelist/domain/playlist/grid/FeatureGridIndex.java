@@ -0,0 +1,81 @@
+package org.example.vibelist.domain.playlist.grid;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.vibelist.domain.playlist.dto.TrackRsDto;
+import org.example.vibelist.domain.playlist.emotion.profile.EmotionAnalysis;
+import org.example.vibelist.domain.playlist.emotion.profile.EmotionFeatureProfile;
+import org.example.vibelist.domain.playlist.es.document.AudioFeatureGridDocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 인메모리 추천 엔진 (선택 기능, recommend.grid.enabled=true 일 때만 적재)
+ * - ES에서 읽은 전체 트랙을 FeatureGrid로 만들어 recommendByProfile / recommendByAnalysis 범위 검색을 JVM 안에서 처리
+ * - 적재 전이거나 비활성화 상태면 null 반환 -> 호출 측에서 ES 검색으로 fallback
+ * - 주기적으로 ES에서 다시 적재해 통째로 교체 (적재 실패 시 기존 grid 유지)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FeatureGridIndex {
+
+    private final FeatureGridLoader loader;
+
+    @Value("${recommend.grid.enabled:false}")
+    private boolean enabled;
+
+    // valence, energy 축당 칸 수
+    @Value("${recommend.grid.cells:20}")
+    private int cells;
+
+    private volatile FeatureGrid grid;
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (enabled) {
+            Thread.ofVirtual().name("feature-grid-warmup").start(this::rebuild);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${recommend.grid.rebuild-interval-ms:3600000}",
+            initialDelayString = "${recommend.grid.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        if (!enabled || !rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            List<AudioFeatureGridDocument> docs = loader.loadAll();
+            grid = FeatureGrid.build(docs, cells);
+            log.info("🧮 Feature grid 적재 완료: tracks={}, cells={}x{}, 소요={}ms",
+                    docs.size(), cells, cells, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("❌ Feature grid 적재 실패 - 기존 grid 유지", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    public List<TrackRsDto> sample(EmotionFeatureProfile profile, int count) {
+        FeatureGrid current = grid;
+        return current == null ? null : current.sample(profile, count);
+    }
+
+    public List<TrackRsDto> sample(EmotionAnalysis analysis, int count) {
+        FeatureGrid current = grid;
+        return current == null ? null : current.sample(analysis, count);
+    }
+
+    public List<TrackRsDto> nearest(double valence, double energy, int k) {
+        FeatureGrid current = grid;
+        return current == null ? null : current.nearest(valence, energy, k);
+    }
+}
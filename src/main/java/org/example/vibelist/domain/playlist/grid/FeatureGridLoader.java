@@ -0,0 +1,90 @@
+package org.example.vibelist.domain.playlist.grid;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.json.JsonData;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.vibelist.domain.playlist.es.document.AudioFeatureEsDocument;
+import org.example.vibelist.domain.playlist.es.document.AudioFeatureGridDocument;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * audio_feature_index 전체(popularity >= 10)를 point-in-time + search_after로 순회해 적재
+ * ES가 원본 데이터이고, 인메모리 grid는 이 결과로만 다시 만들어짐
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FeatureGridLoader {
+
+    private static final String INDEX = AudioFeatureEsDocument.INDEX_ALIAS;
+    private static final String KEEP_ALIVE = "2m";
+    private static final int PAGE_SIZE = 5000;
+
+    private final ElasticsearchClient client;
+
+    public List<AudioFeatureGridDocument> loadAll() throws IOException {
+        Query popular = Query.of(q -> q
+                .bool(b -> b
+                        .filter(f -> f
+                                .range(r -> r
+                                        .untyped(u -> u
+                                                .field("trackMetrics.popularity")
+                                                .gte(JsonData.of(10)))
+                                )
+                        )
+                )
+        );
+
+        String pitId = client.openPointInTime(o -> o.index(INDEX).keepAlive(k -> k.time(KEEP_ALIVE))).id();
+        List<AudioFeatureGridDocument> docs = new ArrayList<>();
+        try {
+            List<FieldValue> after = null;
+            while (true) {
+                String currentPit = pitId;
+                List<FieldValue> cursor = after;
+                SearchResponse<AudioFeatureGridDocument> response = client.search(s -> {
+                    s.pit(p -> p.id(currentPit).keepAlive(k -> k.time(KEEP_ALIVE)))
+                            .query(popular)
+                            .size(PAGE_SIZE)
+                            .trackTotalHits(t -> t.enabled(false))
+                            .source(src -> src.filter(f -> f.includes(AudioFeatureGridDocument.SOURCE_FIELDS)))
+                            .sort(sort -> sort.field(f -> f.field("_shard_doc").order(SortOrder.Asc)));
+                    if (cursor != null) {
+                        s.searchAfter(cursor);
+                    }
+                    return s;
+                }, AudioFeatureGridDocument.class);
+
+                List<Hit<AudioFeatureGridDocument>> hits = response.hits().hits();
+                if (hits.isEmpty()) {
+                    break;
+                }
+                for (Hit<AudioFeatureGridDocument> hit : hits) {
+                    docs.add(hit.source());
+                }
+                after = hits.get(hits.size() - 1).sort();
+                if (response.pitId() != null) {
+                    pitId = response.pitId();
+                }
+            }
+        } finally {
+            String closingPit = pitId;
+            try {
+                client.closePointInTime(c -> c.id(closingPit));
+            } catch (Exception e) {
+                log.warn("⚠️ PIT 종료 실패 (keep-alive 후 자동 만료): {}", e.getMessage());
+            }
+        }
+        return docs;
+    }
+}
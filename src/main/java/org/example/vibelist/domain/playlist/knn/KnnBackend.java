@@ -0,0 +1,13 @@
+package org.example.vibelist.domain.playlist.knn;
+
+/**
+ * 좌표 기반 최근접 이웃 추천의 검색 방식
+ * - SCAN: 인메모리 feature grid를 brute-force 스캔 (grid 미적재 시 ES로 fallback)
+ * - ES: audio_feature_index의 featureVector(dense_vector) kNN 검색
+ *   featureVector 매핑은 새로 만든 인덱스에만 생기므로 기존 인덱스는 /v1/elasticsearch/rebuild로 재구축해야 함
+ *   (재구축 전에는 장르 필터가 없는 요청만 SCAN으로 응답)
+ */
+public enum KnnBackend {
+    SCAN,
+    ES
+}
@@ -1,7 +1,6 @@
 package org.example.vibelist.domain.playlist.pool;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
-import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
@@ -12,6 +11,7 @@ import org.example.vibelist.domain.playlist.dto.TrackRsDto;
 import org.example.vibelist.domain.playlist.emotion.profile.EmotionFeatureProfile;
 import org.example.vibelist.domain.playlist.emotion.type.EmotionType;
 import org.example.vibelist.domain.playlist.es.builder.ESQueryBuilder;
+import org.example.vibelist.domain.playlist.es.builder.RandomSampleRequestBuilder;
 import org.example.vibelist.domain.playlist.es.document.AudioFeatureEsDocument;
 import org.example.vibelist.global.response.GlobalException;
 import org.example.vibelist.global.response.ResponseCode;
@@ -35,20 +35,17 @@ public class EmotionPoolProvider {
     public Set<TrackRsDto> createPool(EmotionType emotion, EmotionFeatureProfile profile, int poolSize) {
         log.info("🔨 Pool 생성 요청: emotion={}, poolSize={}", emotion, poolSize);
         Query emotionQuery = ESQueryBuilder.build(profile);
-        Set<TrackRsDto> pool = new HashSet<>(searchTracks(emotionQuery, poolSize));
+        // 무작위 시작점부터 randomKey 순으로 읽고, key 공간 끝에 걸려 부족하면 처음부터 이어서 채움
+        Set<TrackRsDto> pool = new HashSet<>(searchTracks(emotionQuery, poolSize, ESQueryBuilder.randomStart()));
+        if (pool.size() < poolSize) {
+            pool.addAll(searchTracks(emotionQuery, poolSize - pool.size(), null));
+        }
         log.info("✅ Pool 생성 완료: emotion={}, pool size={}", emotion, pool.size());
         return pool;
     }
 
-    private List<TrackRsDto> searchTracks(Query query, int size) {
-        SearchRequest request = SearchRequest.of(s -> s
-                .index("audio_feature_index")
-                .query(query)
-                .size(size)
-                .sort(sort -> sort
-                        .score(scoreSort -> scoreSort.order(SortOrder.Desc))
-                )
-        );
+    private List<TrackRsDto> searchTracks(Query query, int size, Integer startAfter) {
+        SearchRequest request = RandomSampleRequestBuilder.build(query, size, startAfter);
 
         try {
             SearchResponse<AudioFeatureEsDocument> response = client.search(request, AudioFeatureEsDocument.class);
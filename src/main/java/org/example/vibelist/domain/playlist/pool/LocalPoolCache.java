@@ -0,0 +1,165 @@
+package org.example.vibelist.domain.playlist.pool;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.vibelist.domain.playlist.dto.TrackRsDto;
+import org.example.vibelist.domain.playlist.emotion.type.EmotionType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Redis 감정 pool 앞단의 노드 로컬 캐시
+ * - 9개 감정 pool을 TrackRsDto 배열로 들고 있다가 요청 시 로컬에서 랜덤 샘플링
+ * - Redis에 발행된 pool 세대가 바뀌면 전체 pool을 다시 적재
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LocalPoolCache {
+
+    private static final TrackRsDto[] EMPTY = new TrackRsDto[0];
+    // 최근 추천 곡을 피해 뽑을 때 시도 횟수 상한 (count의 배수)
+    private static final int MAX_DRAW_FACTOR = 4;
+
+    private final RecommendPoolService poolService;
+    private final RecentlyServedTracks recentlyServed;
+
+    // 세대 + pool 묶음을 통째로 교체 (읽는 쪽은 락 없이 참조만)
+    private volatile Snapshot snapshot = new Snapshot(-1L, new EnumMap<>(EmotionType.class));
+
+    /**
+     * 로컬 pool에서 중복 없이 count개 랜덤 샘플링
+     * pool이 비어 있으면 null 반환 (호출 측에서 Redis/ES로 fallback)
+     */
+    public List<TrackRsDto> sample(EmotionType emotion, int count) {
+        TrackRsDto[] pool = snapshot.pools().getOrDefault(emotion, EMPTY);
+        int n = pool.length;
+        if (n == 0) {
+            return null;
+        }
+
+        int k = Math.min(count, n);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<TrackRsDto> result = new ArrayList<>(k);
+
+        // Floyd 샘플링: k << n 이므로 뽑힌 인덱스만 작은 배열에 기록
+        int[] picked = new int[k];
+        for (int j = n - k, size = 0; j < n; j++, size++) {
+            int idx = random.nextInt(j + 1);
+            if (contains(picked, size, idx)) {
+                idx = j;
+            }
+            picked[size] = idx;
+            result.add(pool[idx]);
+        }
+        return result;
+    }
+
+    /**
+     * 사용자별 최근 추천 곡을 제외하며 샘플링 (userId가 null이면 제외 없이 샘플링)
+     * - 뽑은 곡이 최근 기록에 있으면 건너뛰고 다시 뽑음 (시도 횟수 제한)
+     * - 제외 후 곡이 모자라면 건너뛴 곡으로 채움 -> 결과 수는 제외 없는 경우와 같음
+     * - 기록은 하지 않음 (실제로 응답한 곡만 recordServed로 기록)
+     */
+    public List<TrackRsDto> sample(EmotionType emotion, int count, Long userId) {
+        if (userId == null) {
+            return sample(emotion, count);
+        }
+        TrackRsDto[] pool = snapshot.pools().getOrDefault(emotion, EMPTY);
+        int n = pool.length;
+        if (n == 0) {
+            return null;
+        }
+
+        int k = Math.min(count, n);
+        int maxDraws = Math.min(n, k * MAX_DRAW_FACTOR);
+        RecentlyServedTracks.Ring ring = recentlyServed.ringOf(userId);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<TrackRsDto> result = new ArrayList<>(k);
+        List<TrackRsDto> skipped = new ArrayList<>();
+
+        // 중복 없이 무작위 인덱스를 뽑되, 최근 추천 곡은 따로 빼둠 (pool 순서와 무관하게 균등)
+        int[] picked = new int[maxDraws];
+        int size = 0;
+        for (int draw = 0; draw < maxDraws * 2 && size < maxDraws && result.size() < k; draw++) {
+            int idx = random.nextInt(n);
+            if (contains(picked, size, idx)) continue;
+            picked[size++] = idx;
+            if (ring.contains(pool[idx].getSpotifyId())) {
+                skipped.add(pool[idx]);
+            } else {
+                result.add(pool[idx]);
+            }
+        }
+        for (int i = 0; result.size() < k && i < skipped.size(); i++) {
+            result.add(skipped.get(i));
+        }
+        // pool이 아주 작아 무작위 시도로 다 못 채운 경우 남은 곡을 순서대로 채움
+        for (int i = 0; result.size() < k && i < n; i++) {
+            if (!result.contains(pool[i])) {
+                result.add(pool[i]);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * 사용자에게 실제로 응답한 곡을 최근 추천 기록에 추가 (userId가 null이면 무시)
+     */
+    public void recordServed(Long userId, List<TrackRsDto> tracks) {
+        if (userId == null || tracks.isEmpty()) {
+            return;
+        }
+        RecentlyServedTracks.Ring ring = recentlyServed.ringOf(userId);
+        for (TrackRsDto track : tracks) {
+            ring.add(track.getSpotifyId());
+        }
+    }
+
+    public long getGeneration() {
+        return snapshot.generation();
+    }
+
+    // 발행된 세대와 로컬 세대를 비교해 달라졌으면 다시 적재
+    @Scheduled(fixedDelayString = "${recommend.pool.local.sync-interval-ms:10000}")
+    public void syncIfStale() {
+        try {
+            Long published = poolService.getPublishedGeneration();
+            if (published != null && published != snapshot.generation()) {
+                reload(published);
+            }
+        } catch (Exception e) {
+            // Redis 장애 시 기존 로컬 pool을 그대로 유지
+            log.warn("⚠️ 로컬 pool 동기화 실패 - 기존 pool 유지: {}", e.getMessage());
+        }
+    }
+
+    // Redis에 저장된 감정별 pool 전체를 읽어와 로컬 배열로 교체
+    public void reload(long generation) {
+        Map<EmotionType, TrackRsDto[]> pools = new EnumMap<>(EmotionType.class);
+        for (EmotionType emotion : EmotionType.values()) {
+            List<TrackRsDto> tracks = poolService.loadPool(emotion);
+            if (!tracks.isEmpty()) {
+                pools.put(emotion, tracks.toArray(EMPTY));
+            }
+        }
+        snapshot = new Snapshot(generation, pools);
+        log.info("📥 로컬 pool 적재 완료: generation={}, emotions={}", generation, pools.size());
+    }
+
+    private static boolean contains(int[] arr, int size, int value) {
+        for (int i = 0; i < size; i++) {
+            if (arr[i] == value) return true;
+        }
+        return false;
+    }
+
+    private record Snapshot(long generation, Map<EmotionType, TrackRsDto[]> pools) {}
+}
@@ -0,0 +1,67 @@
+package org.example.vibelist.domain.playlist.pool;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 사용자별 최근 추천한 곡 기록 (노드 로컬)
+ * - 사용자마다 spotifyId 해시를 고정 크기 링 버퍼(int[])에 보관 -> 오래된 기록부터 덮어씀
+ * - 사용자 수는 LRU로 제한 (오래 요청이 없던 사용자부터 제거)
+ * - LocalPoolCache 샘플링 중에 조회되므로 추가 네트워크 호출 없음
+ */
+@Component
+public class RecentlyServedTracks {
+
+    private final int perUser;
+    private final Map<Long, Ring> rings;
+
+    public RecentlyServedTracks(@Value("${recommend.served.max-users:10000}") int maxUsers,
+                                @Value("${recommend.served.per-user:100}") int perUser) {
+        this.perUser = perUser;
+        this.rings = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Ring> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    // 사용자의 기록 링 (없으면 생성)
+    public Ring ringOf(long userId) {
+        synchronized (rings) {
+            return rings.computeIfAbsent(userId, id -> new Ring(perUser));
+        }
+    }
+
+    public static final class Ring {
+        private final int[] hashes;
+        private int size;
+        private int next;
+
+        private Ring(int capacity) {
+            this.hashes = new int[capacity];
+        }
+
+        public synchronized boolean contains(String spotifyId) {
+            int hash = hashOf(spotifyId);
+            for (int i = 0; i < size; i++) {
+                if (hashes[i] == hash) return true;
+            }
+            return false;
+        }
+
+        public synchronized void add(String spotifyId) {
+            if (hashes.length == 0) return;
+            hashes[next] = hashOf(spotifyId);
+            next = (next + 1) % hashes.length;
+            size = Math.min(size + 1, hashes.length);
+        }
+
+        private static int hashOf(String spotifyId) {
+            return spotifyId == null ? 0 : spotifyId.hashCode();
+        }
+    }
+}
@@ -6,13 +6,20 @@ import org.example.vibelist.domain.playlist.dto.TrackRsDto;
 import org.example.vibelist.domain.playlist.emotion.profile.EmotionFeatureProfile;
 import org.example.vibelist.domain.playlist.emotion.profile.EmotionProfileManager;
 import org.example.vibelist.domain.playlist.emotion.type.EmotionType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Component
 @RequiredArgsConstructor
@@ -22,38 +29,81 @@ public class RecommendPoolScheduler {
     private final RecommendPoolService poolService;
     private final EmotionPoolProvider poolProvider;
     private final EmotionProfileManager profileManager;
+    private final LocalPoolCache localPoolCache;
 
     // 상수 선언
     private static final int POOL_SIZE = 1000; // pool 크기
     private static final int POOL_TTL = 35; // pool TTL (Time To Live) 시간, 단위: 분
-    private static final int DELAY_SECONDS = 30; // pool 갱신 딜레이 시간, 단위: 초
+
+    // 동시에 실행할 ES pool 생성 쿼리 수
+    @Value("${recommend.pool.refresh-parallelism:3}")
+    private int refreshParallelism;
+
+    // 기동 직후 갱신과 스케줄 갱신이 겹치지 않도록 막는 플래그
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
 
     @EventListener(ApplicationReadyEvent.class)
     public void onReady() {
-        refreshAllEmotionPools();
+        // 기동을 막지 않도록 백그라운드에서 첫 세대 생성 (그 전까지는 ES 직접 검색으로 fallback)
+        Thread.ofVirtual().name("recommend-pool-warmup").start(this::refreshAllEmotionPools);
     }
 
     @Scheduled(cron = "0 0/30 * * * *") // 30분마다
     public void refreshAllEmotionPools() {
-        log.info("⏰ Pool 스케줄러 실행");
-
-//        int idx = 0;
-        for (EmotionType emotion : EmotionType.values()) {
-            String key = "recommendPool:" + emotion;
-            EmotionFeatureProfile profile = profileManager.getProfile(emotion);
-            Set<TrackRsDto> pool = poolProvider.createPool(emotion, profile, POOL_SIZE);
-            poolService.savePool(key, pool, POOL_TTL, TimeUnit.MINUTES);
-            log.info("🔁 Pool 새로 갱신: key={}, size={}", key, pool.size());
-
-//            // 마지막 pool 아니면 딜레이
-//            if (++idx < EmotionType.values().length) {
-//                try {
-//                    Thread.sleep(DELAY_SECONDS * 1000L); // 대기
-//                } catch (InterruptedException e) {
-//                    log.error("Pool 갱신 딜레이 중 오류 발생", e);
-//                    Thread.currentThread().interrupt(); // 인터럽트 상태 복원
-//                }
-//            }
+        if (!refreshing.compareAndSet(false, true)) {
+            log.info("⏭️ Pool 갱신이 이미 진행 중 - 이번 실행 건너뜀");
+            return;
+        }
+        try {
+            log.info("⏰ Pool 스케줄러 실행 (parallelism={})", refreshParallelism);
+            long start = System.currentTimeMillis();
+
+            // 이번 갱신의 pool 버전 (recommendPool:<EMOTION>:v<N>)
+            long version = poolService.nextVersion();
+
+            // 감정별 pool 생성을 가상 스레드로 동시에 실행, 동시 ES 쿼리 수는 세마포어로 제한
+            Semaphore permits = new Semaphore(Math.max(1, refreshParallelism));
+            CompletableFuture<Boolean>[] tasks;
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                tasks = Arrays.stream(EmotionType.values())
+                        .map(emotion -> CompletableFuture.supplyAsync(() -> refreshPool(emotion, version, permits), executor))
+                        .toArray(CompletableFuture[]::new);
+                CompletableFuture.allOf(tasks).join();
+            }
+
+            long succeeded = Arrays.stream(tasks).filter(CompletableFuture::join).count();
+            log.info("🏁 Pool 갱신 종료: version={}, 성공={}/{}, 소요={}ms",
+                    version, succeeded, tasks.length, System.currentTimeMillis() - start);
+
+            // 하나라도 갱신됐으면 새 세대 발행 -> 다른 노드는 syncIfStale에서, 현재 노드는 바로 로컬 캐시 갱신
+            if (succeeded > 0) {
+                long generation = poolService.publishGeneration();
+                localPoolCache.reload(generation);
+            }
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    // 감정 하나의 pool 생성 + 저장, 실패 시 해당 감정은 이전 버전을 그대로 유지
+    private boolean refreshPool(EmotionType emotion, long version, Semaphore permits) {
+        try {
+            permits.acquire();
+            try {
+                EmotionFeatureProfile profile = profileManager.getProfile(emotion);
+                Set<TrackRsDto> pool = poolProvider.createPool(emotion, profile, POOL_SIZE);
+                poolService.savePool(emotion, version, pool, POOL_TTL, TimeUnit.MINUTES);
+                log.info("🔁 Pool 새로 갱신: emotion={}, version={}, size={}", emotion, version, pool.size());
+                return !pool.isEmpty();
+            } finally {
+                permits.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // 인터럽트 상태 복원
+            return false;
+        } catch (Exception e) {
+            log.error("❌ Pool 갱신 실패 - 이전 버전 유지: emotion={}", emotion, e);
+            return false;
         }
     }
 }
@@ -4,7 +4,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.vibelist.domain.playlist.dto.TrackRsDto;
+import org.example.vibelist.domain.playlist.emotion.type.EmotionType;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -16,22 +20,78 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class RecommendPoolService {
 
+    public static final String POOL_KEY_PREFIX = "recommendPool:";
+    // pool 갱신이 끝날 때마다 증가하는 세대 번호 (각 노드의 로컬 캐시가 갱신 여부 판단에 사용)
+    private static final String GENERATION_KEY = POOL_KEY_PREFIX + "generation";
+    // pool 버전 발급용 카운터 -> recommendPool:<EMOTION>:v<N>
+    private static final String VERSION_KEY = POOL_KEY_PREFIX + "version";
+    // 교체된 이전 버전 pool을 조회 중인 요청을 위해 잠시 남겨두는 시간 (초)
+    private static final long OLD_VERSION_GRACE_SECONDS = 60;
+
     private final RedisTemplate<String, Object> redisTemplate;
     private final ObjectMapper redisObjectMapper; // JSON 직렬화/역직렬화용 ObjectMapper
 
-    // pool 저장 (TTL: 캐싱 시간)
-    public void savePool(String key, Set<TrackRsDto> pool, long ttl, TimeUnit unit) {
-        if (!pool.isEmpty()) {
-            // Set 전체를 개별 원소로 Redis Set에 저장
-            redisTemplate.opsForSet().add(key, pool.toArray());
-            redisTemplate.expire(key, ttl, unit);
-            log.info("🆕 Pool 저장: key={}, size={}, TTL={} {}", key, pool.size(), ttl, unit);
+    // 현재 서비스 중인 pool 버전을 가리키는 포인터 키
+    public static String pointerKey(EmotionType emotion) {
+        return POOL_KEY_PREFIX + emotion + ":current";
+    }
+
+    public static String versionKey(EmotionType emotion, long version) {
+        return POOL_KEY_PREFIX + emotion + ":v" + version;
+    }
+
+    // 이번 갱신에 사용할 pool 버전 발급
+    public long nextVersion() {
+        Long version = redisTemplate.opsForValue().increment(VERSION_KEY);
+        return version == null ? 0L : version;
+    }
+
+    /**
+     * pool 저장 (TTL: 캐싱 시간)
+     * 1. 새 버전 키에 SADD + EXPIRE를 MULTI로 묶어 저장 (TTL 없는 Set이 남지 않음)
+     * 2. 포인터 키를 새 버전으로 원자적으로 교체
+     * 3. 이전 버전은 짧은 유예 시간 뒤 만료
+     */
+    public void savePool(EmotionType emotion, long version, Set<TrackRsDto> pool, long ttl, TimeUnit unit) {
+        if (pool.isEmpty()) {
+            return;
         }
+        String key = versionKey(emotion, version);
+        Object[] members = pool.toArray();
+
+        redisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> List<Object> execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                ops.multi();
+                ops.opsForSet().add(key, members);
+                ops.expire(key, ttl, unit);
+                return ops.exec();
+            }
+        });
+
+        Object previous = redisTemplate.opsForValue().getAndSet(pointerKey(emotion), version);
+        if (previous instanceof Number prev && prev.longValue() != version) {
+            redisTemplate.expire(versionKey(emotion, prev.longValue()), OLD_VERSION_GRACE_SECONDS, TimeUnit.SECONDS);
+        }
+        log.info("🆕 Pool 저장: key={}, size={}, TTL={} {}, 이전 버전={}", key, pool.size(), ttl, unit, previous);
+    }
+
+    // 포인터가 가리키는 현재 버전의 pool 키 (없으면 null)
+    private String currentKey(EmotionType emotion) {
+        Object version = redisTemplate.opsForValue().get(pointerKey(emotion));
+        return version instanceof Number number ? versionKey(emotion, number.longValue()) : null;
     }
 
     // pool 조회
     @SuppressWarnings("unchecked")
-    public List<TrackRsDto> recommendFromPool(String key, int count) {
+    public List<TrackRsDto> recommendFromPool(EmotionType emotion, int count) {
+        String key = currentKey(emotion);
+        if (key == null) {
+            log.info("❌ Pool MISS (포인터 없음): emotion={}", emotion);
+            return null;
+        }
         Set<Object> randTracks = redisTemplate.opsForSet().distinctRandomMembers(key, count);
         if (randTracks != null && !randTracks.isEmpty()) {
             log.info("🚀 Pool HIT: key={}, size={}", key, randTracks.size());
@@ -44,8 +104,36 @@ public class RecommendPoolService {
         }
     }
 
-    // pool 삭제
-    public void deletePool(String key) {
-        redisTemplate.delete(key);
+    // pool 전체 조회 (로컬 캐시 적재용)
+    public List<TrackRsDto> loadPool(EmotionType emotion) {
+        String key = currentKey(emotion);
+        if (key == null) {
+            return List.of();
+        }
+        Set<Object> members = redisTemplate.opsForSet().members(key);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+        return members.stream()
+                .map(o -> redisObjectMapper.convertValue(o, TrackRsDto.class))
+                .toList();
+    }
+
+    // 새 pool 세대 발행 -> 발행된 세대 번호 반환
+    public long publishGeneration() {
+        Long generation = redisTemplate.opsForValue().increment(GENERATION_KEY);
+        log.info("📢 Pool 세대 발행: generation={}", generation);
+        return generation == null ? 0L : generation;
+    }
+
+    // 현재 발행된 pool 세대 번호 조회 (없으면 null)
+    public Long getPublishedGeneration() {
+        Object value = redisTemplate.opsForValue().get(GENERATION_KEY);
+        return value instanceof Number number ? number.longValue() : null;
+    }
+
+    // pool 삭제 (포인터만 제거 -> 버전 키는 TTL로 만료)
+    public void deletePool(EmotionType emotion) {
+        redisTemplate.delete(pointerKey(emotion));
     }
 }
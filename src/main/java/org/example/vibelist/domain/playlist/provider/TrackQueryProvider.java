@@ -1,68 +1,206 @@
 package org.example.vibelist.domain.playlist.provider;
 
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
-import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.json.JsonData;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.vibelist.domain.playlist.dto.TrackRsDto;
 import org.example.vibelist.domain.playlist.emotion.profile.EmotionAnalysis;
 import org.example.vibelist.domain.playlist.emotion.profile.EmotionFeatureProfile;
 import org.example.vibelist.domain.playlist.es.builder.ESQueryBuilder;
+import org.example.vibelist.domain.playlist.es.builder.RandomSampleRequestBuilder;
 import org.example.vibelist.domain.playlist.es.document.AudioFeatureEsDocument;
+import org.example.vibelist.domain.playlist.grid.FeatureGridIndex;
+import org.example.vibelist.domain.playlist.knn.KnnBackend;
 import org.example.vibelist.global.response.GlobalException;
 import org.example.vibelist.global.response.ResponseCode;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class TrackQueryProvider {
 
+    // 최근접 후보를 요청 수의 몇 배까지 뽑아 그중 무작위로 고를지 (같은 좌표에도 매번 같은 곡만 나오지 않도록)
+    private static final int KNN_CANDIDATE_FACTOR = 3;
+
     private final ElasticsearchClient client;
+    private final ElasticsearchAsyncClient asyncClient;
+    private final FeatureGridIndex gridIndex;
 
     // 구체적 audio feature 기반 검색
+    // 인메모리 grid가 적재돼 있으면 ES 없이 응답, 아니면 ES 검색
     public List<TrackRsDto> recommendByAnalysis(EmotionAnalysis analysis, int size) {
+        List<TrackRsDto> local = gridIndex.sample(analysis, size);
+        if (local != null) {
+            return local;
+        }
         Query query = ESQueryBuilder.build(analysis);
         return searchTracks(query, size);
     }
 
+    // 구체적 audio feature 기반 검색 (비동기, 요청 스레드를 점유하지 않음)
+    public Mono<List<TrackRsDto>> recommendByAnalysisAsync(EmotionAnalysis analysis, int size) {
+        return recommendByAnalysisAsync(analysis, size, List.of());
+    }
+
+    // 장르 필터가 있으면 인메모리 grid(장르 정보 없음)를 건너뛰고 ES filter 절로 검색
+    public Mono<List<TrackRsDto>> recommendByAnalysisAsync(EmotionAnalysis analysis, int size, List<String> genres) {
+        return Mono.defer(() -> {
+            List<TrackRsDto> local = genres.isEmpty() ? gridIndex.sample(analysis, size) : null;
+            if (local != null) {
+                return Mono.just(local);
+            }
+            Query query = ESQueryBuilder.build(analysis, genres);
+            return searchTracksAsync(query, size);
+        });
+    }
+
     // valence, energy 기반 검색
     public List<TrackRsDto> recommendByProfile(EmotionFeatureProfile profile, int size) {
-        Query query = ESQueryBuilder.build(profile);
+        return recommendByProfile(profile, size, List.of());
+    }
+
+    public List<TrackRsDto> recommendByProfile(EmotionFeatureProfile profile, int size, List<String> genres) {
+        List<TrackRsDto> local = genres.isEmpty() ? gridIndex.sample(profile, size) : null;
+        if (local != null) {
+            return local;
+        }
+        Query query = ESQueryBuilder.build(profile, genres);
         return searchTracks(query, size);
     }
 
-    // es에 검색 실행 / 파싱
-    private List<TrackRsDto> searchTracks(Query query, int size) {
+    // (valence, energy) 좌표와 가까운 곡 추천 - 가장 가까운 후보 중 size개 무작위 선택
+    public List<TrackRsDto> recommendByNearest(double valence, double energy, int size, KnnBackend backend) {
+        return recommendByNearest(valence, energy, size, backend, List.of());
+    }
+
+    // 장르 필터가 있으면 SCAN 요청이어도 ES kNN(filter 포함)으로 검색
+    // 인덱스에 featureVector 매핑이 없어 ES kNN이 거부되면 장르 필터가 없는 경우에 한해 SCAN으로 응답
+    public List<TrackRsDto> recommendByNearest(double valence, double energy, int size, KnnBackend backend, List<String> genres) {
+        int candidates = size * KNN_CANDIDATE_FACTOR;
+        List<TrackRsDto> nearest = backend == KnnBackend.SCAN && genres.isEmpty()
+                ? gridIndex.nearest(valence, energy, candidates) : null;
+        if (nearest == null) {
+            nearest = searchNearest(valence, energy, candidates, genres);
+        }
+        if (nearest == null && genres.isEmpty()) {
+            nearest = gridIndex.nearest(valence, energy, candidates);
+        }
+        if (nearest == null) {
+            throw new GlobalException(ResponseCode.ES_SEARCH_FAILED);
+        }
+        List<TrackRsDto> shuffled = new ArrayList<>(nearest);
+        Collections.shuffle(shuffled, ThreadLocalRandom.current());
+        return shuffled.size() > size ? shuffled.subList(0, size) : shuffled;
+    }
+
+    // ES dense_vector kNN 검색 (popularity 10 이상만, 장르 필터는 kNN 후보 탐색 단계에서 적용)
+    // featureVector 매핑이 없는 인덱스(재구축 전 인덱스)라 요청이 거부되면 null
+    private List<TrackRsDto> searchNearest(double valence, double energy, int k, List<String> genres) {
+        List<Query> filters = new ArrayList<>(2);
+        filters.add(Query.of(f -> f
+                .range(r -> r
+                        .untyped(u -> u
+                                .field("trackMetrics.popularity")
+                                .gte(JsonData.of(10)))
+                )
+        ));
+        if (!genres.isEmpty()) {
+            filters.add(ESQueryBuilder.genreFilter(genres));
+        }
         SearchRequest request = SearchRequest.of(s -> s
-                .index("audio_feature_index")
-                .query(query)
-                .size(size)
-                .sort(sort -> sort
-                        .score(scoreSort -> scoreSort.order(SortOrder.Desc))
+                .index(AudioFeatureEsDocument.INDEX_ALIAS)
+                .knn(knn -> knn
+                        .field(ESQueryBuilder.FEATURE_VECTOR_FIELD)
+                        .queryVector(ESQueryBuilder.queryVector(valence, energy))
+                        .k(k)
+                        .numCandidates(k * 10)
+                        .filter(filters)
+                )
+                .size(k)
+                .source(src -> src
+                        .filter(f -> f.includes(AudioFeatureEsDocument.SOURCE_FIELDS))
                 )
         );
-
         try {
-            SearchResponse<AudioFeatureEsDocument> response = client.search(request, AudioFeatureEsDocument.class);
-            log.info("📦 검색 결과 수신 - 총 {}개", response.hits().hits().size());
-
-            return response.hits().hits().stream()
-                    .map(Hit::source)
-                    .map(TrackRsDto::from)
-                    .collect(Collectors.toList());
+            return toTracks(client.search(request, AudioFeatureEsDocument.class));
+        } catch (ElasticsearchException e) {
+            if (e.status() != 400) {
+                log.error("❌ Elasticsearch kNN 검색 실패", e);
+                throw new GlobalException(ResponseCode.ES_SEARCH_FAILED);
+            }
+            log.warn("⚠️ ES kNN 검색 거부 (featureVector 매핑 없음, /v1/elasticsearch/rebuild로 재구축 필요): {}", e.getMessage());
+            return null;
+        } catch (IOException e) {
+            log.error("❌ Elasticsearch kNN 검색 실패", e);
+            throw new GlobalException(ResponseCode.ES_SEARCH_FAILED);
+        }
+    }
 
+    // es에 검색 실행 / 파싱
+    // 무작위 시작점부터 randomKey 순으로 읽고, key 공간 끝에 걸려 부족하면 처음부터 이어서 채움
+    private List<TrackRsDto> searchTracks(Query query, int size) {
+        try {
+            List<TrackRsDto> tracks = toTracks(client.search(
+                    RandomSampleRequestBuilder.build(query, size, ESQueryBuilder.randomStart()), AudioFeatureEsDocument.class));
+            if (tracks.size() >= size) {
+                return tracks;
+            }
+            List<TrackRsDto> wrapped = toTracks(client.search(
+                    RandomSampleRequestBuilder.build(query, size - tracks.size(), null), AudioFeatureEsDocument.class));
+            return concatDistinct(tracks, wrapped);
         } catch (IOException e) {
             log.error("❌ Elasticsearch 검색 실패", e);
             throw new GlobalException(ResponseCode.ES_SEARCH_FAILED);
         }
     }
+
+    private Mono<List<TrackRsDto>> searchTracksAsync(Query query, int size) {
+        SearchRequest request = RandomSampleRequestBuilder.build(query, size, ESQueryBuilder.randomStart());
+        return Mono.fromFuture(() -> asyncClient.search(request, AudioFeatureEsDocument.class))
+                .map(this::toTracks)
+                .flatMap(tracks -> {
+                    if (tracks.size() >= size) {
+                        return Mono.just(tracks);
+                    }
+                    SearchRequest wrapRequest = RandomSampleRequestBuilder.build(query, size - tracks.size(), null);
+                    return Mono.fromFuture(() -> asyncClient.search(wrapRequest, AudioFeatureEsDocument.class))
+                            .map(response -> concatDistinct(tracks, toTracks(response)));
+                })
+                .onErrorMap(e -> !(e instanceof GlobalException), e -> {
+                    log.error("❌ Elasticsearch 검색 실패", e);
+                    return new GlobalException(ResponseCode.ES_SEARCH_FAILED);
+                });
+    }
+
+    // 매칭 문서가 요청 수보다 적으면 앞뒤 구간이 겹칠 수 있으므로 중복 제거
+    private static List<TrackRsDto> concatDistinct(List<TrackRsDto> head, List<TrackRsDto> tail) {
+        return Stream.concat(head.stream(), tail.stream())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private List<TrackRsDto> toTracks(SearchResponse<AudioFeatureEsDocument> response) {
+        log.info("📦 검색 결과 수신 - 총 {}개", response.hits().hits().size());
+        return response.hits().hits().stream()
+                .map(Hit::source)
+                .map(TrackRsDto::from)
+                .collect(Collectors.toList());
+    }
 }
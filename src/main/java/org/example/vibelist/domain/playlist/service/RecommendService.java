@@ -1,19 +1,23 @@
 package org.example.vibelist.domain.playlist.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.vibelist.domain.playlist.dto.RecommendRqDto;
 import org.example.vibelist.domain.playlist.dto.TrackRsDto;
+import org.example.vibelist.domain.playlist.emotion.lexicon.EmotionLexiconClassifier;
 import org.example.vibelist.domain.playlist.emotion.llm.EmotionTextManager;
-import org.example.vibelist.domain.playlist.emotion.profile.EmotionAnalysis;
 import org.example.vibelist.domain.playlist.emotion.profile.EmotionFeatureProfile;
 import org.example.vibelist.domain.playlist.emotion.type.EmotionModeType;
 import org.example.vibelist.domain.playlist.emotion.profile.EmotionProfileManager;
 import org.example.vibelist.domain.playlist.emotion.type.EmotionType;
+import org.example.vibelist.domain.playlist.genre.GenreDictionary;
+import org.example.vibelist.domain.playlist.knn.KnnBackend;
 import org.example.vibelist.domain.playlist.provider.TrackQueryProvider;
+import org.example.vibelist.domain.playlist.pool.LocalPoolCache;
 import org.example.vibelist.domain.playlist.pool.RecommendPoolService;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -33,65 +37,136 @@ public class RecommendService {
     // 감정 분류 및 전이 → 검색 범위 계산 → Elasticsearch 쿼리 실행을 수행하는 추천 서비스
     // 1. 좌표 기반: (valence, energy)를 감정으로 매핑 -> 매핑된 감정 pool에서 가져오기 -> 추천 결과 반환 (List<TrackRsDto>)
     // 2. 텍스트 기반: llm이 반환한 audio feature -> es 검색(fallback: 감정별 pool에서 가져오기) -> 추천 결과 반환 (List<TrackRsDto>)
+    // 장르 필터가 있으면 pool/인메모리 grid(장르 구분 없음)를 건너뛰고 ES filter 절로 한 번에 검색
+
+    // 한 요청에서 받을 수 있는 최대 장르 수
+    private static final int MAX_GENRE_FILTERS = 10;
 
     private final RecommendPoolService poolService;
+    private final LocalPoolCache localPoolCache;
     private final TrackQueryProvider queryProvider;
     private final EmotionProfileManager profileManager;
     private final EmotionTextManager textManager;
+    private final EmotionLexiconClassifier lexiconClassifier;
 
     // 입력값 구분
-    public RsData<List<TrackRsDto>> recommend(RecommendRqDto request) {
-        try {
-            if (request.getText() != null && !request.getText().isBlank()) {
-                return RsData.success(ResponseCode.RECOMMEND_SUCCESS, recommendByText(request.getText(), request.getMode()));
-            } else if (request.getUserValence() != null && request.getUserEnergy() != null) {
-                return RsData.success(ResponseCode.RECOMMEND_SUCCESS, recommendByCoordinate(request.getUserValence(), request.getUserEnergy(), request.getMode()));
-            } else {
-                throw new GlobalException(ResponseCode.RECOMMEND_INVALID_INPUT, "추천 입력값이 잘못되었습니다. text, userValence, userEnergy 중 하나는 반드시 입력되어야 합니다.");
-            }
-        } catch (GlobalException ce) {
-            throw ce;
-        } catch (Exception e) {
-            throw new GlobalException(ResponseCode.INTERNAL_SERVER_ERROR, "추천 처리 중 오류: " + e.getMessage());
+    // 텍스트 요청은 LLM -> ES -> fallback 전체를 비동기로 연결 (요청 스레드를 LLM 응답 대기에 묶지 않음)
+    public Mono<RsData<List<TrackRsDto>>> recommend(RecommendRqDto request, Long userId) {
+        List<String> genres = GenreDictionary.normalizeAll(request.getGenres());
+        Mono<List<TrackRsDto>> result;
+        if (genres.size() > MAX_GENRE_FILTERS) {
+            result = Mono.error(new GlobalException(ResponseCode.RECOMMEND_INVALID_INPUT, "장르 필터는 최대 " + MAX_GENRE_FILTERS + "개까지 입력할 수 있습니다."));
+        } else if (request.getText() != null && !request.getText().isBlank()) {
+            result = recommendByText(request.getText(), request.getMode(), userId, genres);
+        } else if (request.getUserValence() != null && request.getUserEnergy() != null && request.getKnn() != null) {
+            result = Mono.fromCallable(() -> recommendByNearest(request.getUserValence(), request.getUserEnergy(), request.getMode(), request.getKnn(), genres));
+        } else if (request.getUserValence() != null && request.getUserEnergy() != null) {
+            result = Mono.fromCallable(() -> recommendByCoordinate(request.getUserValence(), request.getUserEnergy(), request.getMode(), userId, genres));
+        } else {
+            result = Mono.error(new GlobalException(ResponseCode.RECOMMEND_INVALID_INPUT, "추천 입력값이 잘못되었습니다. text, userValence, userEnergy 중 하나는 반드시 입력되어야 합니다."));
         }
+        return result
+                // 병합/대체가 끝나 실제로 응답하는 곡만 사용자 최근 추천 기록에 추가
+                .doOnNext(tracks -> localPoolCache.recordServed(userId, tracks))
+                .map(tracks -> RsData.success(ResponseCode.RECOMMEND_SUCCESS, tracks))
+                .onErrorMap(e -> !(e instanceof GlobalException),
+                        e -> new GlobalException(ResponseCode.INTERNAL_SERVER_ERROR, "추천 처리 중 오류: " + e.getMessage()));
     }
 
     // valence, energy -> 감정 매핑
-    public List<TrackRsDto> recommendByCoordinate(double userValence, double userEnergy, EmotionModeType mode) {
-        log.info("🎯 좌표 기반 추천 요청 수신 - valence: {}, energy: {}, mode: {}", userValence, userEnergy, mode);
+    public List<TrackRsDto> recommendByCoordinate(double userValence, double userEnergy, EmotionModeType mode, Long userId, List<String> genres) {
+        log.info("🎯 좌표 기반 추천 요청 수신 - valence: {}, energy: {}, mode: {}, genres: {}", userValence, userEnergy, mode, genres);
         EmotionType emotion = profileManager.classify(userValence, userEnergy);
         log.info("🧠 분류된 감정: {}", emotion);
-        return recommendByEmotionType(emotion, mode);
+        return recommendByEmotionType(emotion, mode, userId, genres);
     }
 
-    // 자연어 -> 감정 매핑
-    public List<TrackRsDto> recommendByText(String userText, EmotionModeType mode) throws JsonProcessingException {
-        log.info("🎯 텍스트 기반 추천 요청 수신 - text: \"{}\", mode: {}", userText, mode);
+    // valence, energy -> 가까운 곡 (감정 구간 경계에서 결과가 갑자기 바뀌지 않음)
+    // 모드로 감정이 전이되면 전이된 감정 구간의 중심 좌표를 기준으로 검색
+    public List<TrackRsDto> recommendByNearest(double userValence, double userEnergy, EmotionModeType mode, KnnBackend backend, List<String> genres) {
+        log.info("🎯 최근접 추천 요청 수신 - valence: {}, energy: {}, mode: {}, backend: {}, genres: {}", userValence, userEnergy, mode, backend, genres);
+        double valence = userValence;
+        double energy = userEnergy;
 
-        EmotionAnalysis analysis = textManager.getEmotionAnalysis(userText, mode);
-        log.info("📊 LLM 기반 검색 범위: {}", analysis);
+        EmotionType emotion = profileManager.classify(userValence, userEnergy);
+        EmotionType transitioned = mode == null ? emotion : profileManager.getTransition(emotion, mode);
+        if (transitioned != emotion) {
+            EmotionFeatureProfile profile = profileManager.getProfile(transitioned);
+            valence = (profile.getValence().getMin() + profile.getValence().getMax()) / 2;
+            energy = (profile.getEnergy().getMin() + profile.getEnergy().getMax()) / 2;
+            log.info("🔁 전이된 감정: {} -> 기준 좌표 ({}, {})", transitioned, valence, energy);
+        }
 
-        List<TrackRsDto> result = queryProvider.recommendByAnalysis(analysis, 20);
+        long start = System.currentTimeMillis();
+        List<TrackRsDto> result = queryProvider.recommendByNearest(valence, energy, 20, backend, genres);
+        log.info("🎯 추천 결과 반환: 분기=최근접({}), 곡수={}, 시간={}ms", backend, result.size(), System.currentTimeMillis() - start);
+        return result;
+    }
 
-        // 검색 결과 너무 적으면 fallback
-        if (result.size() < 10) {
-            log.info("🔁 Fallback - 감정타입 기반 검색 진행: {}", analysis.getEmotionType());
-            List<TrackRsDto> fallback = recommendByEmotionType(EmotionType.valueOf(analysis.getEmotionType()), mode);
+    // 자연어 -> 감정 매핑
+    public Mono<List<TrackRsDto>> recommendByText(String userText, EmotionModeType mode, Long userId, List<String> genres) {
+        log.info("🎯 텍스트 기반 추천 요청 수신 - text: \"{}\", mode: {}, genres: {}", userText, mode, genres);
+
+        return textManager.getEmotionAnalysis(userText, mode)
+                .doOnNext(analysis -> log.info("📊 LLM 기반 검색 범위: {}", analysis))
+                .flatMap(analysis -> {
+                    EmotionType emotion = EmotionType.valueOf(analysis.getEmotionType());
+
+                    // fallback(감정 pool)은 가벼우므로 strict 쿼리 결과를 기다리지 않고 동시에 시작
+                    // 샘플링은 최근 추천을 제외만 하고 기록하지 않음 (실제 응답한 곡만 recommend()에서 기록) -> 예비 결과도 userId로 제외 적용
+                    Mono<List<TrackRsDto>> fallback = Mono.fromCallable(() -> recommendByEmotionType(emotion, mode, userId, genres))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .onErrorResume(e -> {
+                                log.warn("⚠️ Fallback 조회 실패: {}", e.getMessage());
+                                return Mono.just(List.of());
+                            });
+
+                    // strict 쿼리가 실패해도 fallback 결과로 응답
+                    Mono<List<TrackRsDto>> strict = queryProvider.recommendByAnalysisAsync(analysis, 20, genres)
+                            .onErrorResume(e -> {
+                                log.warn("⚠️ LLM 범위 검색 실패 - fallback 결과만 사용: {}", e.getMessage());
+                                return Mono.just(List.of());
+                            });
+
+                    return Mono.zip(strict, fallback)
+                            .map(results -> mergeWithFallback(results.getT1(), results.getT2()));
+                })
+                // LLM 장애(서킷 오픈/타임아웃/호출 실패) 시 키워드 사전 추정 감정의 pool 기반 추천으로 대체
+                .onErrorResume(RecommendService::isLlmUnavailable, e -> {
+                    EmotionType guessed = lexiconClassifier.bestGuess(userText);
+                    log.warn("⚡ LLM 사용 불가 - 추정 감정({}) pool 추천으로 대체: {}", guessed, e.getMessage());
+                    return Mono.fromCallable(() -> recommendByEmotionType(guessed, mode, userId, genres))
+                            .subscribeOn(Schedulers.boundedElastic());
+                });
+    }
 
-            // 합치기(중복 제거)
-            result = Stream.concat(result.stream(), fallback.stream())
-                    .distinct()
-                    .limit(20)
-                    .collect(Collectors.toList());
+    private static boolean isLlmUnavailable(Throwable e) {
+        if (!(e instanceof GlobalException ge)) {
+            return false;
+        }
+        ResponseCode code = ge.getResponseCode();
+        return code == ResponseCode.LLM_CIRCUIT_OPEN
+                || code == ResponseCode.LLM_TIMEOUT
+                || code == ResponseCode.LLM_API_ERROR;
+    }
 
-            log.info("🔁 Fallback 결과 사이즈: {}", result.size());
+    // strict 결과를 앞에 두고, 부족하면 fallback으로 채움 (중복 제거)
+    private List<TrackRsDto> mergeWithFallback(List<TrackRsDto> strict, List<TrackRsDto> fallback) {
+        // 검색 결과 충분하면 그대로 반환
+        if (strict.size() >= 10) {
+            return strict;
         }
 
-        return result;
+        List<TrackRsDto> merged = Stream.concat(strict.stream(), fallback.stream())
+                .distinct()
+                .limit(20)
+                .collect(Collectors.toList());
+        log.info("🔁 Fallback 병합 - strict={}, 결과 사이즈={}", strict.size(), merged.size());
+        return merged;
     }
 
     // 감정 -> 플레이리스트 추천
-    public List<TrackRsDto> recommendByEmotionType(EmotionType emotion, EmotionModeType mode) {
+    public List<TrackRsDto> recommendByEmotionType(EmotionType emotion, EmotionModeType mode, Long userId, List<String> genres) {
         long start = System.currentTimeMillis();
 
         EmotionType transitioned = profileManager.getTransition(emotion, mode);
@@ -102,13 +177,26 @@ public class RecommendService {
                 profile.getValence().getMin(), profile.getValence().getMax(),
                 profile.getEnergy().getMin(), profile.getEnergy().getMax());
 
-        String key = "recommendPool:" + transitioned;
+        // 장르 필터: pool에는 장르 구분이 없으므로 ES 직접 검색 (filter 절)
+        if (!genres.isEmpty()) {
+            List<TrackRsDto> result = queryProvider.recommendByProfile(profile, 20, genres);
+            log.info("🎯 추천 결과 반환: 분기=장르필터, genres={}, 곡수={}, 시간={}ms", genres, result.size(), System.currentTimeMillis() - start);
+            return result;
+        }
+
+        // 로컬 캐시 -> Redis pool -> ES 직접 검색 순으로 조회
+        List<TrackRsDto> localTracks = localPoolCache.sample(transitioned, 20, userId); // 로그인 사용자는 최근 추천 곡 제외
+        if (localTracks != null) {
+            long end = System.currentTimeMillis();
+            log.info("🎯 추천 결과 반환: 분기=로컬캐시, 곡수={}, 시간={}ms", localTracks.size(), (end - start));
+            return localTracks;
+        }
 
-        List<TrackRsDto> randTracks = poolService.recommendFromPool(key, 20);
+        List<TrackRsDto> randTracks = poolService.recommendFromPool(transitioned, 20);
 
         // ES 직접 검색: fallback
         if (randTracks == null || randTracks.isEmpty()) {
-            log.info("❌ Pool MISS - ES 직접 검색만 수행 (pool 저장 안함): key={}", key);
+            log.info("❌ Pool MISS - ES 직접 검색만 수행 (pool 저장 안함): emotion={}", transitioned);
             List<TrackRsDto> result = queryProvider.recommendByProfile(profile, 20); // 20곡 직접 ES에서 가져옴
             long end = System.currentTimeMillis();
             log.info("🎯 추천 결과 반환: 분기=ES직접검색, 곡수={}, 시간={}ms", result.size(), (end - start));
@@ -19,6 +19,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import reactor.core.publisher.Mono;
 
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
@@ -64,27 +65,36 @@ public class LoggingAspect {
         }
 
         double start = System.currentTimeMillis(); // 시작 시간 측정
+        // 요청 정보는 요청 스레드에서 미리 추출 (Mono가 끝나는 시점에는 요청/보안 컨텍스트가 없음)
+        UserLog logData = UserLog.builder()
+                .userId(extractUserId())
+                .ip(extractClientIp())
+                .eventType(userActivityLog.action())
+                .domain(extractDomain(pjp))
+                .api(extractRequestDetails())
+                .requestBody(extractRequestBody(pjp))
+                .build();
+
         Object result;
         try {
             result = pjp.proceed(); // 실제 메서드 실행
-            return result;
-        } finally {
-            double end = System.currentTimeMillis(); // 종료 시간 측정
-            double duration = end - start;
-
-            UserLog logData = UserLog.builder()
-                    .userId(extractUserId())
-                    .ip(extractClientIp())
-                    .eventType(userActivityLog.action())
-                    .domain(extractDomain(pjp))
-                    .timestamp(LocalDateTime.now())
-                    .api(extractRequestDetails())
-                    .requestBody(extractRequestBody(pjp))
-                    .duration(duration) // ⬅️ 여기 추가
-                    .build();
-
-            logSender.send(logData);
+        } catch (Throwable e) {
+            send(logData, start);
+            throw e;
+        }
+        // 비동기 응답(Mono)은 구독 후 완료(성공/에러/취소)될 때까지를 소요 시간으로 기록
+        if (result instanceof Mono<?> mono) {
+            return mono.doFinally(signal -> send(logData, start));
         }
+        send(logData, start);
+        return result;
+    }
+
+    private void send(UserLog logData, double start) {
+        double end = System.currentTimeMillis(); // 종료 시간 측정
+        logData.setDuration(end - start);
+        logData.setTimestamp(LocalDateTime.now());
+        logSender.send(logData);
     }
 
     /*
@@ -5,6 +5,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.vibelist.domain.oauth2.*;
+import org.example.vibelist.global.constants.Role;
 import org.example.vibelist.global.constants.TokenConstants;
 import org.example.vibelist.global.response.GlobalException;
 import org.example.vibelist.global.response.ResponseCode;
@@ -78,8 +79,10 @@ public class SecurityConfig {
                         .requestMatchers("/oauth2/authorization/**").permitAll()
                         // 사용자명 설정 페이지 허용
                         .requestMatchers("/setup/username").permitAll()
-                        // 헬스체크 및 모니터링 엔드포인트 허용
-                        .requestMatchers("/health/**", "/actuator/**", "/prometheus").permitAll()
+                        // 헬스체크 엔드포인트 허용
+                        .requestMatchers("/health/**", "/actuator/health", "/actuator/health/**", "/prometheus").permitAll()
+                        // 그 외 actuator(metrics 등 내부 지표)는 관리자만
+                        .requestMatchers("/actuator/**").hasAuthority(Role.ADMIN.name())
                         // 웹소켓 엔드포인트 허용
                         .requestMatchers("/ws/**", "/websocket/**").permitAll()
                         // API 문서 허용
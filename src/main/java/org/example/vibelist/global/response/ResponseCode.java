@@ -69,6 +69,7 @@ public enum ResponseCode {
     LLM_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "LLM_504", "LLM API 타임아웃"),
     LLM_PARSE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "LLM_500", "LLM 응답 파싱 실패"),
     LLM_INVALID_FORMAT(HttpStatus.BAD_REQUEST, "LLM_400", "LLM 응답 포맷 오류"),
+    LLM_CIRCUIT_OPEN(HttpStatus.SERVICE_UNAVAILABLE, "LLM_503", "LLM API 일시 차단 (서킷 오픈)"),
     // ====== TAG ======
     TAG_AUTOCOMPLETE_SUCCESS(HttpStatus.OK, "TAG_200", "태그 자동완성 성공"),
     TAG_INVALID(HttpStatus.BAD_REQUEST, "TAG_400", "유효하지 않은 태그입니다."),
@@ -76,8 +77,11 @@ public enum ResponseCode {
     EXPLORE_SEARCH_SUCCESS(HttpStatus.OK, "EXPLORE_200", "탐색 검색 성공"),
     EXPLORE_FEED_SUCCESS(HttpStatus.OK, "EXPLORE_201", "탐색 피드 성공"),
     TREND_CAPTURE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "EXPLORE_500", "트렌드 데이터 생성에 실패했습니다."),
+    // ====== SPOTIFY ======
+    SPOTIFY_RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "SPOTIFY_429", "Spotify API 요청 한도 초과"),
     // ====== BATCH/ETC ======
     BATCH_SUCCESS(HttpStatus.OK, "BATCH_200", "배치 작업 성공"),
+    BATCH_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "BATCH_500", "배치 작업 실패"),
     ES_SEARCH_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "ES_500", "Elasticsearch 검색 실패"),
     // ====== HEALTH ======
     HEALTH_OK(HttpStatus.OK, "HEALTH_200", "서버 정상 동작"),
@@ -0,0 +1,54 @@
+package org.example.vibelist.domain.batch.checkpoint;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Checkpoint 테스트")
+class CheckpointTest {
+
+    @Test
+    @DisplayName("순서 없이 완료된 청크는 앞쪽이 채워질 때 watermark로 합쳐져야 함")
+    void complete_OutOfOrder_ShouldAdvanceWatermark() {
+        // given
+        Checkpoint checkpoint = Checkpoint.empty().complete(2).complete(1);
+
+        // then
+        assertThat(checkpoint.watermark()).isZero();
+        assertThat(checkpoint.isCompleted(1)).isTrue();
+        assertThat(checkpoint.isCompleted(0)).isFalse();
+
+        // when
+        checkpoint = checkpoint.complete(0);
+
+        // then
+        assertThat(checkpoint.watermark()).isEqualTo(3);
+        assertThat(checkpoint.completedAhead()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("파일 저장소는 저장한 진행 상황을 그대로 복원해야 함")
+    void fileStore_SaveAndLoad_ShouldRoundTrip(@TempDir Path dir) {
+        // given
+        FileCheckpointStore store = new FileCheckpointStore(dir.toString());
+        Checkpoint checkpoint = Checkpoint.empty().complete(0).complete(1).complete(4).complete(6);
+
+        // when
+        store.save("job", checkpoint);
+        Checkpoint loaded = store.load("job");
+
+        // then
+        assertThat(loaded.watermark()).isEqualTo(2);
+        assertThat(loaded.completedAhead()).containsExactly(4L, 6L);
+
+        // when
+        store.clear("job");
+
+        // then
+        assertThat(store.load("job").watermark()).isZero();
+    }
+}
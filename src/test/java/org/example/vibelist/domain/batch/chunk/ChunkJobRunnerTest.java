@@ -0,0 +1,154 @@
+package org.example.vibelist.domain.batch.chunk;
+
+import org.example.vibelist.domain.batch.checkpoint.Checkpoint;
+import org.example.vibelist.domain.batch.checkpoint.CheckpointStore;
+import org.example.vibelist.domain.batch.checkpoint.repository.BatchFailedItemRepository;
+import org.example.vibelist.domain.batch.metrics.BatchMetricsRegistry;
+import org.example.vibelist.domain.batch.metrics.BatchProgress;
+import org.example.vibelist.global.response.GlobalException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ChunkJobRunner 테스트")
+class ChunkJobRunnerTest {
+
+    private final InMemoryCheckpointStore checkpointStore = new InMemoryCheckpointStore();
+    private final ChunkJobRunner runner = new ChunkJobRunner(new TransactionTemplate(new NoOpTransactionManager()),
+            checkpointStore, mock(BatchFailedItemRepository.class), new BatchMetricsRegistry());
+
+    @Test
+    @DisplayName("여러 partition으로 실행해도 범위 안의 모든 항목을 한 번씩 처리해야 함")
+    void run_Partitions_ShouldProcessEveryItemOnce() {
+        // given
+        NavigableSet<Long> ids = ids(5, 1003);
+        Map<Long, Integer> written = new ConcurrentHashMap<>();
+
+        // when
+        BatchProgress progress = runner.run(job(ids, written, 3, -1));
+
+        // then
+        assertThat(written).hasSize(ids.size());
+        assertThat(written.values()).allMatch(count -> count == 1);
+        assertThat(progress.processed()).isEqualTo(ids.size());
+        assertThat(progress.finished()).isTrue();
+        assertThat(checkpointStore.checkpoints).isEmpty();
+    }
+
+    @Test
+    @DisplayName("중간에 실패하면 다음 실행은 커밋된 청크 다음부터 이어서 처리해야 함")
+    void run_AfterFailure_ShouldResumeFromCommittedChunk() {
+        // given
+        NavigableSet<Long> ids = ids(1, 1000);
+        Map<Long, Integer> written = new ConcurrentHashMap<>();
+
+        // when
+        assertThatThrownBy(() -> runner.run(job(ids, written, 2, 30)))
+                .isInstanceOf(GlobalException.class);
+        int beforeResume = written.size();
+        runner.run(job(ids, written, 2, -1));
+
+        // then
+        assertThat(beforeResume).isPositive().isLessThan(ids.size());
+        assertThat(written).hasSize(ids.size());
+        assertThat(written.values()).allMatch(count -> count == 1);
+        assertThat(checkpointStore.checkpoints).isEmpty();
+    }
+
+    // 7의 배수 id가 빠진 데이터를 읽는 작업 (failAtWrite번째 writer 호출에서 예외)
+    private static ChunkJob<Long, Long> job(NavigableSet<Long> ids, Map<Long, Integer> written, int partitions, int failAtWrite) {
+        AtomicInteger writes = new AtomicInteger();
+        return ChunkJob.<Long, Long>builder()
+                .name("test_job")
+                .reader(new ChunkReader<>() {
+                    @Override
+                    public List<Long> read(long afterId, long toId, int limit) {
+                        List<Long> chunk = new ArrayList<>(limit);
+                        for (Long id : ids.subSet(afterId, false, toId, true)) {
+                            if (chunk.size() == limit) break;
+                            chunk.add(id);
+                        }
+                        return chunk;
+                    }
+
+                    @Override
+                    public long idOf(Long item) {
+                        return item;
+                    }
+                })
+                .processor(ChunkOutput::of)
+                .writer(items -> {
+                    if (writes.incrementAndGet() == failAtWrite) {
+                        throw new IllegalStateException("write failed");
+                    }
+                    items.forEach(id -> written.merge(id, 1, Integer::sum));
+                })
+                .minId(ids.first())
+                .maxId(ids.last())
+                .chunkSize(7)
+                .stripeSize(100)
+                .partitions(partitions)
+                .build();
+    }
+
+    private static NavigableSet<Long> ids(long from, long to) {
+        NavigableSet<Long> ids = new TreeSet<>();
+        for (long id = from; id <= to; id++) {
+            if (id % 7 != 0) ids.add(id);
+        }
+        return ids;
+    }
+
+    private static class InMemoryCheckpointStore implements CheckpointStore {
+        private final Map<String, Checkpoint> checkpoints = new ConcurrentHashMap<>();
+
+        @Override
+        public Checkpoint load(String jobName) {
+            return checkpoints.getOrDefault(jobName, Checkpoint.empty());
+        }
+
+        @Override
+        public void save(String jobName, Checkpoint checkpoint) {
+            checkpoints.put(jobName, checkpoint);
+        }
+
+        @Override
+        public void clear(String jobName) {
+            checkpoints.remove(jobName);
+        }
+    }
+
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.vibelist.domain.batch.spotify.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SpotifyRateLimiter 테스트")
+class SpotifyRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("burst만큼은 바로 허가하고 이후에는 초당 허가 수에 맞춰 대기해야 함")
+    void reserve_AfterBurst_ShouldWaitForRefill() {
+        // given
+        AtomicLong clock = new AtomicLong();
+        SpotifyRateLimiter limiter = new SpotifyRateLimiter(10, 2, clock::get);
+
+        // when & then
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(SECOND / 10);
+
+        // when
+        clock.addAndGet(SECOND / 10);
+
+        // then
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Retry-After 동안은 토큰이 남아 있어도 허가하지 않아야 함")
+    void pauseFor_ShouldBlockUntilRetryAfter() {
+        // given
+        AtomicLong clock = new AtomicLong();
+        SpotifyRateLimiter limiter = new SpotifyRateLimiter(10, 5, clock::get);
+
+        // when
+        limiter.pauseFor(Duration.ofSeconds(3));
+
+        // then
+        assertThat(limiter.reserve()).isEqualTo(3 * SECOND);
+
+        // when
+        clock.addAndGet(3 * SECOND);
+
+        // then - 멈춘 동안 토큰은 쌓이지 않고 재개 시점부터 다시 채워짐
+        assertThat(limiter.reserve()).isEqualTo(SECOND / 10);
+        clock.addAndGet(SECOND / 10);
+        assertThat(limiter.reserve()).isZero();
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.vibelist.domain.playlist.emotion.lexicon;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.vibelist.domain.playlist.emotion.profile.EmotionAnalysis;
+import org.example.vibelist.domain.playlist.emotion.profile.EmotionProfileManager;
+import org.example.vibelist.domain.playlist.emotion.type.EmotionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EmotionLexiconClassifier 테스트")
+class EmotionLexiconClassifierTest {
+
+    private static final String PROFILE_PATH = "config/emotion/emotion_profiles.json";
+    // 사전 회귀 고정 입력 (text, expected) - expected는 사전이 바로 응답할 감정, LLM으로 넘겨야 하면 "LLM"
+    private static final String SAMPLES_RESOURCE = "/emotion/lexicon_regression_samples.jsonl";
+    private static final String ESCALATE = "LLM";
+
+    private EmotionProfileManager profileManager;
+    private EmotionLexiconClassifier classifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        profileManager = new EmotionProfileManager(PROFILE_PATH);
+        classifier = new EmotionLexiconClassifier(profileManager);
+    }
+
+    @Test
+    @DisplayName("감정 어휘 하나로 된 문장은 해당 감정 프로필 범위로 바로 분류되어야 함")
+    void classify_SingleMoodWord_ShouldReturnProfileRange() {
+        // when
+        Optional<EmotionAnalysis> result = classifier.classify("오늘 너무 우울해요");
+
+        // then
+        assertThat(result).isPresent();
+        EmotionAnalysis analysis = result.get();
+        assertThat(analysis.getEmotionType()).isEqualTo("DEPRESSED");
+        assertThat(analysis.getValence()).usingRecursiveComparison().isEqualTo(profileManager.getProfile(EmotionType.DEPRESSED).getValence());
+        assertThat(analysis.getEnergy()).usingRecursiveComparison().isEqualTo(profileManager.getProfile(EmotionType.DEPRESSED).getEnergy());
+        assertThat(analysis.getTempo()).isNull();
+    }
+
+    @Test
+    @DisplayName("부정 표현, 여러 감정, 긴 설명은 LLM으로 넘겨야 함")
+    void classify_AmbiguousInput_ShouldEscalate() {
+        assertThat(classifier.classify("슬프지 않아")).isEmpty();
+        assertThat(classifier.classify("not happy")).isEmpty();
+        assertThat(classifier.classify("happy but nervous")).isEmpty();
+        assertThat(classifier.classify("비 오는 날 창밖을 보면서 커피 마시는 느낌")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("LLM 장애 시 추정 감정은 가장 많이 매칭된 감정, 매칭이 없으면 NEUTRAL이어야 함")
+    void bestGuess_ShouldFallbackToNeutral() {
+        assertThat(classifier.bestGuess("슬프지 않아")).isEqualTo(EmotionType.SAD);
+        assertThat(classifier.bestGuess("비 오는 날 창밖을 보면서 커피 마시는 느낌")).isEqualTo(EmotionType.NEUTRAL);
+    }
+
+    @Test
+    @DisplayName("다른 뜻으로 쓰이는 어휘(좋아하다, 화가)는 감정으로 분류하지 않아야 함")
+    void classify_AmbiguousKoreanWords_ShouldNotMatch() {
+        assertThat(classifier.classify("좋아하는 노래")).isEmpty();
+        assertThat(classifier.classify("화가의 그림")).isEmpty();
+        assertThat(classifier.classify("기분 좋아요").map(EmotionAnalysis::getEmotionType)).contains("JOY");
+        assertThat(classifier.classify("화났어").map(EmotionAnalysis::getEmotionType)).contains("TENSE");
+    }
+
+    @Test
+    @DisplayName("회귀 고정 입력은 기록된 감정으로 분류되거나 기록대로 LLM으로 넘겨야 함")
+    void classify_RegressionSamples_ShouldMatchExpected() throws Exception {
+        // given
+        List<JsonNode> samples = loadSamples();
+
+        // when & then
+        for (JsonNode sample : samples) {
+            String text = sample.get("text").asText();
+            String actual = classifier.classify(text).map(EmotionAnalysis::getEmotionType).orElse(ESCALATE);
+            assertThat(actual).as("입력: %s", text).isEqualTo(sample.get("expected").asText());
+        }
+    }
+
+    private static List<JsonNode> loadSamples() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        try (InputStream in = EmotionLexiconClassifierTest.class.getResourceAsStream(SAMPLES_RESOURCE);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            return reader.lines()
+                    .filter(line -> !line.isBlank())
+                    .map(line -> {
+                        try {
+                            return mapper.readTree(line);
+                        } catch (Exception e) {
+                            throw new IllegalArgumentException("샘플 파싱 실패: " + line, e);
+                        }
+                    })
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.vibelist.domain.playlist.emotion.llm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EmotionTextNormalizer 테스트")
+class EmotionTextNormalizerTest {
+
+    @Test
+    @DisplayName("대소문자, 문장부호, 수식어 차이는 같은 키로 정규화되어야 함")
+    void normalize_EnglishVariants_ShouldCollapseToSameKey() {
+        assertThat(EmotionTextNormalizer.normalize("sad")).isEqualTo("sad");
+        assertThat(EmotionTextNormalizer.normalize("I'm sad")).isEqualTo("sad");
+        assertThat(EmotionTextNormalizer.normalize("  So SAD today!! ")).isEqualTo("sad");
+    }
+
+    @Test
+    @DisplayName("한국어 조사와 종결어미는 제거되어야 함")
+    void normalize_KoreanParticles_ShouldBeStripped() {
+        assertThat(EmotionTextNormalizer.normalize("기분이 너무 슬퍼요!")).isEqualTo("기분 슬퍼");
+        assertThat(EmotionTextNormalizer.normalize("나는 오늘 우울해요")).isEqualTo("우울해");
+    }
+
+    @Test
+    @DisplayName("불용어만 있는 경우 원문 정규화 결과를 유지해야 함")
+    void normalize_OnlyStopWords_ShouldKeepFoldedText() {
+        assertThat(EmotionTextNormalizer.normalize("오늘")).isEqualTo("오늘");
+        assertThat(EmotionTextNormalizer.normalize(null)).isEmpty();
+    }
+}
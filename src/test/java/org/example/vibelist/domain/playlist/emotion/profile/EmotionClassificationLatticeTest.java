@@ -0,0 +1,83 @@
+package org.example.vibelist.domain.playlist.emotion.profile;
+
+import org.example.vibelist.domain.playlist.emotion.type.EmotionType;
+import org.example.vibelist.domain.playlist.util.DoubleRange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EmotionClassificationLattice 테스트")
+class EmotionClassificationLatticeTest {
+
+    private static final String PROFILE_PATH = "config/emotion/emotion_profiles.json";
+
+    @Test
+    @DisplayName("각 구간 내부 좌표는 해당 감정으로 분류되어야 함")
+    void classify_InteriorPoints_ShouldMatchProfileRanges() throws Exception {
+        // given
+        EmotionProfileManager manager = new EmotionProfileManager(PROFILE_PATH);
+
+        // when & then
+        assertThat(manager.classify(0.1, 0.1)).isEqualTo(EmotionType.DEPRESSED);
+        assertThat(manager.classify(0.1, 0.5)).isEqualTo(EmotionType.SLEEPY);
+        assertThat(manager.classify(0.1, 0.9)).isEqualTo(EmotionType.TENSE);
+        assertThat(manager.classify(0.4, 0.1)).isEqualTo(EmotionType.SAD);
+        assertThat(manager.classify(0.4, 0.5)).isEqualTo(EmotionType.NEUTRAL);
+        assertThat(manager.classify(0.4, 0.9)).isEqualTo(EmotionType.FEAR);
+        assertThat(manager.classify(0.8, 0.1)).isEqualTo(EmotionType.CALM);
+        assertThat(manager.classify(0.8, 0.5)).isEqualTo(EmotionType.JOY);
+        assertThat(manager.classify(0.8, 0.9)).isEqualTo(EmotionType.EXCITED);
+    }
+
+    @Test
+    @DisplayName("경계값은 위쪽 구간에 속하고, 최댓값은 마지막 구간에 포함되어야 함")
+    void classify_BoundaryPoints_ShouldBeDeterministic() throws Exception {
+        // given
+        EmotionProfileManager manager = new EmotionProfileManager(PROFILE_PATH);
+
+        // when & then
+        assertThat(manager.classify(0.281, 0.415)).isEqualTo(EmotionType.NEUTRAL);
+        assertThat(manager.classify(0.586, 0.722)).isEqualTo(EmotionType.EXCITED);
+        assertThat(manager.classify(0.0, 0.0)).isEqualTo(EmotionType.DEPRESSED);
+        assertThat(manager.classify(1.0, 1.0)).isEqualTo(EmotionType.EXCITED);
+    }
+
+    @Test
+    @DisplayName("범위 밖 좌표나 NaN은 fallback 감정으로 분류되어야 함")
+    void classify_OutOfRange_ShouldReturnFallback() throws Exception {
+        // given
+        EmotionProfileManager manager = new EmotionProfileManager(PROFILE_PATH);
+
+        // when & then
+        assertThat(manager.classify(-0.1, 0.5)).isEqualTo(EmotionType.NEUTRAL);
+        assertThat(manager.classify(0.5, 1.2)).isEqualTo(EmotionType.NEUTRAL);
+        assertThat(manager.classify(Double.NaN, 0.5)).isEqualTo(EmotionType.NEUTRAL);
+    }
+
+    @Test
+    @DisplayName("겹치는 범위는 EmotionType 선언 순서가 앞선 감정이 우선해야 함")
+    void compile_OverlappingRanges_ShouldPreferDeclarationOrder() {
+        // given
+        Map<EmotionType, EmotionFeatureProfile> ranges = new EnumMap<>(EmotionType.class);
+        ranges.put(EmotionType.JOY, profile(0.0, 1.0, 0.0, 1.0));
+        ranges.put(EmotionType.SAD, profile(0.0, 0.5, 0.0, 0.5));
+
+        // when
+        EmotionClassificationLattice lattice = EmotionClassificationLattice.compile(ranges, EmotionType.NEUTRAL);
+
+        // then
+        assertThat(lattice.classify(0.2, 0.2)).isEqualTo(EmotionType.SAD);
+        assertThat(lattice.classify(0.7, 0.2)).isEqualTo(EmotionType.JOY);
+    }
+
+    private EmotionFeatureProfile profile(double vMin, double vMax, double eMin, double eMax) {
+        return EmotionFeatureProfile.builder()
+                .valence(new DoubleRange(vMin, vMax))
+                .energy(new DoubleRange(eMin, eMax))
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.vibelist.domain.playlist.genre;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GenreDictionary 테스트")
+class GenreDictionaryTest {
+
+    @Test
+    @DisplayName("; 구분 장르 문자열은 trim/소문자 정규화되고 빈 항목과 중복은 제외되어야 함")
+    void parse_ShouldNormalizeAndSkipEmptyAndDuplicates() {
+        // given
+        GenreDictionary dictionary = new GenreDictionary();
+
+        // when
+        List<String> genres = dictionary.parse(" Pop;dance pop;; pop ;K-Pop;");
+
+        // then
+        assertThat(genres).containsExactly("pop", "dance pop", "k-pop");
+        assertThat(dictionary.parse(null)).isEmpty();
+        assertThat(dictionary.parse(" ; ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 장르는 같은 String 인스턴스로 intern되어야 함")
+    void parse_SameGenre_ShouldReturnInternedInstance() {
+        // given
+        GenreDictionary dictionary = new GenreDictionary();
+
+        // when
+        String first = dictionary.parse("indie rock;pop").get(0);
+        String second = dictionary.parse("INDIE ROCK").get(0);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(dictionary.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("요청 장르 필터는 정규화만 되고 사전에 등록되지 않아야 함")
+    void normalizeAll_ShouldNotRegisterGenres() {
+        // when
+        List<String> genres = GenreDictionary.normalizeAll(Arrays.asList(" Jazz ", "jazz", null, "", "Lo-Fi"));
+
+        // then
+        assertThat(genres).containsExactly("jazz", "lo-fi");
+        assertThat(GenreDictionary.normalizeAll(null)).isEmpty();
+    }
+}
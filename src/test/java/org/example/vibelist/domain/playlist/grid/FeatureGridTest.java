@@ -0,0 +1,98 @@
+package org.example.vibelist.domain.playlist.grid;
+
+import org.example.vibelist.domain.batch.elasticsearch.dto.TrackMetrics;
+import org.example.vibelist.domain.playlist.dto.TrackRsDto;
+import org.example.vibelist.domain.playlist.emotion.profile.EmotionAnalysis;
+import org.example.vibelist.domain.playlist.emotion.profile.EmotionFeatureProfile;
+import org.example.vibelist.domain.playlist.es.document.AudioFeatureGridDocument;
+import org.example.vibelist.domain.playlist.util.DoubleRange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FeatureGrid 테스트")
+class FeatureGridTest {
+
+    private final Map<String, AudioFeatureGridDocument> docsById = new HashMap<>();
+    private FeatureGrid grid;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(7);
+        List<AudioFeatureGridDocument> docs = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            AudioFeatureGridDocument doc = new AudioFeatureGridDocument();
+            doc.setSpotifyId("track-" + i);
+            doc.setValence(random.nextDouble());
+            doc.setEnergy(random.nextDouble());
+            doc.setDanceability(random.nextDouble());
+            doc.setTempo(60 + random.nextDouble() * 120);
+            TrackMetrics metrics = new TrackMetrics();
+            metrics.setTrackId(String.valueOf(i));
+            doc.setTrackMetrics(metrics);
+            docs.add(doc);
+            docsById.put(doc.getSpotifyId(), doc);
+        }
+        grid = FeatureGrid.build(docs, 20);
+    }
+
+    @Test
+    @DisplayName("valence/energy 범위 검색 결과는 모두 범위 안에 있고 중복이 없어야 함")
+    void sample_Profile_ShouldReturnTracksInRange() {
+        // given
+        EmotionFeatureProfile profile = EmotionFeatureProfile.builder()
+                .valence(new DoubleRange(0.281, 0.6))
+                .energy(new DoubleRange(0.0, 0.35))
+                .build();
+
+        // when
+        List<TrackRsDto> result = grid.sample(profile, 20);
+
+        // then
+        assertThat(result).hasSize(20).doesNotHaveDuplicates();
+        for (TrackRsDto track : result) {
+            AudioFeatureGridDocument doc = docsById.get(track.getSpotifyId());
+            assertThat((float) doc.getValence()).isBetween(0.281f, 0.6f);
+            assertThat((float) doc.getEnergy()).isBetween(0.0f, 0.35f);
+        }
+    }
+
+    @Test
+    @DisplayName("여러 feature 범위 검색은 지정된 feature만 조건으로 사용해야 함")
+    void sample_Analysis_ShouldApplyOnlyGivenRanges() {
+        // given
+        EmotionAnalysis analysis = new EmotionAnalysis();
+        analysis.setValence(new DoubleRange(0.5, 1.0));
+        analysis.setTempo(new DoubleRange(120, 140));
+
+        // when
+        List<TrackRsDto> result = grid.sample(analysis, 20);
+
+        // then
+        assertThat(result).isNotEmpty();
+        for (TrackRsDto track : result) {
+            AudioFeatureGridDocument doc = docsById.get(track.getSpotifyId());
+            assertThat(doc.getValence()).isGreaterThanOrEqualTo(0.5);
+            assertThat(doc.getTempo()).isBetween(120.0, 140.0);
+        }
+    }
+
+    @Test
+    @DisplayName("매칭되는 트랙이 요청 수보다 적으면 매칭된 트랙만 반환해야 함")
+    void sample_FewMatches_ShouldReturnAllMatches() {
+        // given
+        EmotionAnalysis analysis = new EmotionAnalysis();
+        analysis.setTempo(new DoubleRange(500, 600));
+
+        // when & then
+        assertThat(grid.sample(analysis, 20)).isEmpty();
+    }
+}
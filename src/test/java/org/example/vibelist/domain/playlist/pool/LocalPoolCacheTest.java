@@ -0,0 +1,77 @@
+package org.example.vibelist.domain.playlist.pool;
+
+import org.example.vibelist.domain.playlist.dto.TrackRsDto;
+import org.example.vibelist.domain.playlist.emotion.type.EmotionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("LocalPoolCache 사용자별 최근 추천 제외 테스트")
+class LocalPoolCacheTest {
+
+    private LocalPoolCache cache;
+    private RecentlyServedTracks recentlyServed;
+
+    @BeforeEach
+    void setUp() {
+        RecommendPoolService poolService = mock(RecommendPoolService.class);
+        List<TrackRsDto> tracks = IntStream.range(0, 200)
+                .mapToObj(i -> TrackRsDto.builder().spotifyId("track-" + i).build())
+                .toList();
+        when(poolService.loadPool(any())).thenReturn(tracks);
+
+        recentlyServed = new RecentlyServedTracks(100, 100);
+        cache = new LocalPoolCache(poolService, recentlyServed);
+        cache.reload(1L);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 연속 요청은 직전에 추천한 곡을 다시 포함하지 않아야 함")
+    void sample_SameUser_ShouldExcludeRecentlyServed() {
+        // when
+        List<TrackRsDto> first = cache.sample(EmotionType.JOY, 20, 1L);
+        cache.recordServed(1L, first);
+        List<TrackRsDto> second = cache.sample(EmotionType.JOY, 20, 1L);
+
+        // then
+        assertThat(first).hasSize(20).doesNotHaveDuplicates();
+        assertThat(second).hasSize(20).doesNotHaveDuplicates().doesNotContainAnyElementsOf(first);
+    }
+
+    @Test
+    @DisplayName("제외할 곡이 pool 대부분을 차지해도 요청한 곡 수는 채워야 함")
+    void sample_ExhaustedPool_ShouldStillFillCount() {
+        // given: pool 200곡 중 기록 가능한 100곡을 모두 소진
+        for (int i = 0; i < 10; i++) {
+            cache.recordServed(2L, cache.sample(EmotionType.JOY, 20, 2L));
+        }
+
+        // when & then
+        assertThat(cache.sample(EmotionType.JOY, 20, 2L)).hasSize(20).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("응답하지 않은 샘플은 최근 추천 기록에 남지 않아야 함")
+    void sample_WithoutRecord_ShouldNotRecord() {
+        // when: 뽑기만 하고 응답하지 않음
+        List<TrackRsDto> unused = cache.sample(EmotionType.JOY, 20, 3L);
+
+        // then
+        RecentlyServedTracks.Ring ring = recentlyServed.ringOf(3L);
+        assertThat(unused).hasSize(20).noneMatch(track -> ring.contains(track.getSpotifyId()));
+    }
+
+    @Test
+    @DisplayName("비로그인 요청은 기록 없이 샘플링해야 함")
+    void sample_Anonymous_ShouldNotRecord() {
+        assertThat(cache.sample(EmotionType.JOY, 20, null)).hasSize(20).doesNotHaveDuplicates();
+    }
+}